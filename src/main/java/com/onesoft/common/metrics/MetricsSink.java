@@ -0,0 +1,26 @@
+package com.onesoft.common.metrics;
+
+/**
+ * 유틸리티 메서드 지표 수신 SPI
+ *
+ * <p>
+ * 구현체는 {@code META-INF/services/com.onesoft.common.metrics.MetricsSink} 로 등록하거나
+ * {@link UtilMetrics#addSink(MetricsSink)} 로 직접 등록합니다.
+ * 호출 스레드에서 바로 호출되므로 가볍고 스레드 안전해야 합니다.
+ * </p>
+ *
+ * <p>operation 이름은 "클래스명.메서드명" 형식입니다. (예: "FileUtil.isPdfFile")</p>
+ */
+public interface MetricsSink {
+
+    /** 메서드 호출 1건 완료 (정상/오류 모두) */
+    void onCall(String operation, long elapsedNanos);
+
+    /** 메서드 내부에서 예외가 발생함 */
+    default void onError(String operation) {
+    }
+
+    /** 메서드가 파일에서 bytes 만큼 읽음 */
+    default void onBytesRead(String operation, long bytes) {
+    }
+}
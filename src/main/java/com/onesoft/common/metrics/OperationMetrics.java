@@ -0,0 +1,195 @@
+package com.onesoft.common.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 메서드 1개의 누적 지표
+ *
+ * <p>
+ * 모든 카운터는 LongAdder(스트라이프 카운터)라 여러 스레드가 동시에 기록해도 경합이 적습니다.
+ * 지연 시간은 2의 거듭제곱 구간을 4등분한 로그-선형 히스토그램으로 기록하여 백분위를 근사합니다.
+ * </p>
+ *
+ * <p>{@link #stop(long)}, {@link #error()}, {@link #bytesRead(long)} 는 비활성 시 아무 것도 하지 않습니다.</p>
+ */
+public final class OperationMetrics implements OperationMetricsMXBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(OperationMetrics.class);
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2; // 이 값 미만은 1ns 단위 구간
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    OperationMetrics(String name) {
+        this.name = name;
+        for (int i = 0; i < BUCKET_COUNT; i++) buckets[i] = new LongAdder();
+    }
+
+    /** "클래스명.메서드명" */
+    public String getName() {
+        return name;
+    }
+
+    // ===============================
+    // 기록 (호출 경로)
+    // ===============================
+
+    /** 호출 1건 완료 기록 */
+    public void stop(long startNanos) {
+        if (UtilMetrics.ENABLED) recordCall(System.nanoTime() - startNanos);
+    }
+
+    /** 예외 발생 기록 */
+    public void error() {
+        if (UtilMetrics.ENABLED) recordError();
+    }
+
+    /** 파일 읽기 바이트 수 기록 */
+    public void bytesRead(long bytes) {
+        if (UtilMetrics.ENABLED && bytes > 0) recordBytesRead(bytes);
+    }
+
+    void recordCall(long nanos) {
+        calls.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        buckets[bucketIndex(nanos)].increment();
+        for (MetricsSink sink : UtilMetrics.SINKS) {
+            try {
+                sink.onCall(name, nanos);
+            } catch (RuntimeException e) {
+                logger.warn("MetricsSink 호출 실패: {}", sink.getClass().getName(), e);
+            }
+        }
+    }
+
+    void recordError() {
+        errors.increment();
+        for (MetricsSink sink : UtilMetrics.SINKS) {
+            try {
+                sink.onError(name);
+            } catch (RuntimeException e) {
+                logger.warn("MetricsSink 호출 실패: {}", sink.getClass().getName(), e);
+            }
+        }
+    }
+
+    void recordBytesRead(long bytes) {
+        bytesRead.add(bytes);
+        for (MetricsSink sink : UtilMetrics.SINKS) {
+            try {
+                sink.onBytesRead(name, bytes);
+            } catch (RuntimeException e) {
+                logger.warn("MetricsSink 호출 실패: {}", sink.getClass().getName(), e);
+            }
+        }
+    }
+
+    // ===============================
+    // 조회 (JMX)
+    // ===============================
+
+    @Override
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    @Override
+    public long getTotalTimeMillis() {
+        return totalNanos.sum() / 1_000_000;
+    }
+
+    @Override
+    public double getMeanMicros() {
+        long count = calls.sum();
+        return count == 0 ? 0 : totalNanos.sum() / 1_000d / count;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return maxNanos.get() / 1_000d;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return percentileNanos(0.50) / 1_000d;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return percentileNanos(0.99) / 1_000d;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return percentileNanos(0.999) / 1_000d;
+    }
+
+    @Override
+    public void reset() {
+        calls.reset();
+        errors.reset();
+        bytesRead.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+        for (LongAdder bucket : buckets) bucket.reset();
+    }
+
+    /** 백분위 근사값(ns), 구간 중앙값 기준 */
+    long percentileNanos(double quantile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) return 0;
+
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(bucketMidpoint(i), maxNanos.get());
+        }
+        return maxNanos.get();
+    }
+
+    static int bucketIndex(long nanos) {
+        if (nanos < LINEAR_LIMIT) return (int) Math.max(0, nanos);
+        int exp = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exp - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + sub;
+    }
+
+    static long bucketMidpoint(int index) {
+        if (index < LINEAR_LIMIT) return index;
+        int exp = (index - LINEAR_LIMIT) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+        int sub = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        long width = 1L << (exp - SUB_BUCKET_BITS);
+        long lower = (SUB_BUCKETS + sub) * width;
+        return lower + width / 2;
+    }
+}
@@ -0,0 +1,36 @@
+package com.onesoft.common.metrics;
+
+/**
+ * 메서드별 지표 JMX 인터페이스
+ * - ObjectName: com.onesoft.common:type=UtilMetrics,class=클래스명,operation=메서드명
+ * - 지연 시간 백분위는 로그 구간 히스토그램 기반 근사값(오차 약 25% 이내)
+ */
+public interface OperationMetricsMXBean {
+
+    long getCalls();
+
+    long getErrors();
+
+    /**
+     * 이 라이브러리가 직접 읽은 바이트 수
+     * - 파일 헤더 검사와 라이브러리 스트림/채널을 거친 읽기만 포함
+     * - POI 의 ZIP 패키지 열기, java.util.zip.ZipFile 의 중앙 디렉토리 읽기 등
+     *   외부 라이브러리가 파일을 직접 여는 경우는 포함하지 않음
+     */
+    long getBytesRead();
+
+    long getTotalTimeMillis();
+
+    double getMeanMicros();
+
+    double getMaxMicros();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    /** 누적 지표 초기화 */
+    void reset();
+}
@@ -0,0 +1,126 @@
+package com.onesoft.common.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 유틸리티 메서드 지표 수집 진입점 (opt-in)
+ *
+ * <p>
+ * {@code -Donesoft.common.metrics.enabled=true} 로 실행할 때만 수집합니다.
+ * {@link #ENABLED} 는 static final 이므로 비활성 시 JIT 가 검사 분기를 제거하여
+ * 호출 경로에 비용이 거의 없습니다. 비활성 시 {@link #operation(Class, String)} 은
+ * 공유된 빈 지표 객체 하나를 반환하므로 메서드별 히스토그램도 할당하지 않습니다.
+ * </p>
+ *
+ * <p>
+ * 활성 시 각 메서드 지표는 JMX MBean 으로 등록되고
+ * ({@code com.onesoft.common:type=UtilMetrics,class=...,operation=...}),
+ * {@link MetricsSink} 구현체(ServiceLoader 또는 {@link #addSink(MetricsSink)})에도 전달됩니다.
+ * </p>
+ *
+ * <pre>
+ * private static final OperationMetrics IS_PDF_FILE = UtilMetrics.operation(FileUtil.class, "isPdfFile");
+ *
+ * long start = UtilMetrics.start();
+ * try {
+ *     ...
+ * } finally {
+ *     IS_PDF_FILE.stop(start);
+ * }
+ * </pre>
+ */
+public final class UtilMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(UtilMetrics.class);
+
+    /** 지표 수집 활성화 여부 (시스템 프로퍼티 onesoft.common.metrics.enabled) */
+    public static final boolean ENABLED = Boolean.getBoolean("onesoft.common.metrics.enabled");
+
+    private static final String JMX_DOMAIN = "com.onesoft.common";
+
+    private static final ConcurrentMap<String, OperationMetrics> OPERATIONS = new ConcurrentHashMap<>();
+    private static final OperationMetrics DISABLED = ENABLED ? null : new OperationMetrics("disabled");
+    static final List<MetricsSink> SINKS = new CopyOnWriteArrayList<>();
+
+    static {
+        if (ENABLED) {
+            try {
+                for (MetricsSink sink : ServiceLoader.load(MetricsSink.class)) {
+                    SINKS.add(sink);
+                    logger.debug("MetricsSink 등록: {}", sink.getClass().getName());
+                }
+            } catch (ServiceConfigurationError e) {
+                logger.warn("MetricsSink 로딩 실패", e);
+            }
+        }
+    }
+
+    private UtilMetrics() {} // 인스턴스화 방지
+
+    /**
+     * 메서드 지표 객체를 반환합니다. (없으면 생성 후 JMX 등록)
+     * 비활성 시에는 등록 없이 공유된 빈 지표 객체를 반환합니다.
+     *
+     * @param owner 유틸리티 클래스
+     * @param method 메서드명
+     */
+    public static OperationMetrics operation(Class<?> owner, String method) {
+        if (!ENABLED) return DISABLED;
+        String className = owner.getSimpleName();
+        return OPERATIONS.computeIfAbsent(className + "." + method, name -> {
+            OperationMetrics metrics = new OperationMetrics(name);
+            register(className, method, metrics);
+            return metrics;
+        });
+    }
+
+    /** 측정 시작 시각, 비활성 시 0 */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /** 지표 수신기 추가 */
+    public static void addSink(MetricsSink sink) {
+        if (sink != null) SINKS.add(sink);
+    }
+
+    /** 지표 수신기 제거 */
+    public static void removeSink(MetricsSink sink) {
+        SINKS.remove(sink);
+    }
+
+    /** "클래스명.메서드명" → 지표 (읽기 전용, 비활성 시 비어 있음) */
+    public static Map<String, OperationMetrics> getOperations() {
+        return Collections.unmodifiableMap(OPERATIONS);
+    }
+
+    /** 모든 누적 지표 초기화 */
+    public static void resetAll() {
+        OPERATIONS.values().forEach(OperationMetrics::reset);
+    }
+
+    private static void register(String className, String method, OperationMetrics metrics) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=UtilMetrics,class=" + className
+                    + ",operation=" + method);
+            if (!server.isRegistered(name)) server.registerMBean(metrics, name);
+        } catch (Exception e) {
+            logger.warn("지표 MBean 등록 실패: {}.{}", className, method, e);
+        }
+    }
+}
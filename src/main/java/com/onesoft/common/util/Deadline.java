@@ -0,0 +1,86 @@
+package com.onesoft.common.util;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * 작업 제한 시간 (협조적 취소용)
+ *
+ * <p>
+ * 시간이 오래 걸릴 수 있는 유틸리티 메서드에 전달하면, 작업이 청크 경계마다
+ * {@link #check()} 를 호출하여 시간 초과 또는 취소 시 {@link DeadlineExceededException} 으로 중단합니다.
+ * 하나의 Deadline 을 여러 단계의 작업에 걸쳐 공유할 수 있습니다.
+ * </p>
+ *
+ * <pre>
+ * Deadline deadline = Deadline.after(Duration.ofMillis(500));
+ * String text = StringUtil.cleanHtmlText(html, deadline);
+ * </pre>
+ */
+public final class Deadline {
+
+    private static final Deadline NONE = new Deadline(System::nanoTime, 0, true);
+
+    private final LongSupplier clock;
+    private final long deadlineNanos;
+    private final long budgetNanos;
+    private final boolean unbounded;
+    private volatile boolean cancelled;
+
+    /** clock 은 테스트에서 시간 흐름을 제어하기 위한 용도 */
+    Deadline(LongSupplier clock, long budgetNanos, boolean unbounded) {
+        this.clock = clock;
+        this.deadlineNanos = unbounded ? 0 : clock.getAsLong() + budgetNanos;
+        this.budgetNanos = budgetNanos;
+        this.unbounded = unbounded;
+    }
+
+    /** 지금부터 budget 이후 만료되는 Deadline */
+    public static Deadline after(Duration budget) {
+        Objects.requireNonNull(budget, "budget");
+        return new Deadline(System::nanoTime, Math.max(0, budget.toNanos()), false);
+    }
+
+    /** 지금부터 millis 밀리초 이후 만료되는 Deadline */
+    public static Deadline afterMillis(long millis) {
+        return after(Duration.ofMillis(millis));
+    }
+
+    /** 만료되지 않는 Deadline (취소 불가) */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    /** 다른 스레드에서 작업을 취소합니다. {@link #none()} 에는 적용되지 않습니다. */
+    public void cancel() {
+        if (this != NONE) cancelled = true;
+    }
+
+    /** 취소되었거나 제한 시간이 지났는지 여부 */
+    public boolean isExpired() {
+        if (cancelled) return true;
+        return !unbounded && clock.getAsLong() - deadlineNanos >= 0;
+    }
+
+    /** 남은 시간(ms), 만료 시 0, 제한이 없으면 Long.MAX_VALUE */
+    public long remainingMillis() {
+        if (cancelled) return 0;
+        if (unbounded) return Long.MAX_VALUE;
+        return Math.max(0, Duration.ofNanos(deadlineNanos - clock.getAsLong()).toMillis());
+    }
+
+    /**
+     * 만료 여부 확인
+     *
+     * @throws DeadlineExceededException 취소되었거나 제한 시간이 지난 경우
+     */
+    public void check() {
+        if (cancelled) {
+            throw new DeadlineExceededException("작업이 취소되었습니다.");
+        }
+        if (!unbounded && clock.getAsLong() - deadlineNanos >= 0) {
+            throw new DeadlineExceededException("제한 시간 초과: " + Duration.ofNanos(budgetNanos).toMillis() + "ms");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.onesoft.common.util;
+
+/**
+ * {@link Deadline} 이 만료되어 작업이 중단되었음을 나타내는 예외
+ *
+ * <p>
+ * 일반적인 실패(로그 후 기본값 반환)와 구분하기 위해 Deadline 을 받는 메서드는
+ * 이 예외를 그대로 던집니다.
+ * </p>
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
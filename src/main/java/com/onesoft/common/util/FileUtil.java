@@ -2,21 +2,27 @@ package com.onesoft.common.util;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.Objects;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import org.apache.poi.EncryptedDocumentException;
 import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.poifs.crypt.Decryptor;
 import org.apache.poi.poifs.crypt.EncryptionInfo;
 import org.apache.poi.poifs.filesystem.POIFSFileSystem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.onesoft.common.metrics.OperationMetrics;
+import com.onesoft.common.metrics.UtilMetrics;
+
 /**
  * 파일 관련 유틸리티 클래스
  */
@@ -29,6 +35,18 @@ public class FileUtil {
     private static final byte[] PDF_HEADER = {0x25,0x50,0x44,0x46,0x2D};
     private static final byte[] ZIP_HEADER = {0x50,0x4B,0x03,0x04};
 
+    // 메서드별 지표 (-Donesoft.common.metrics.enabled=true 일 때만 수집)
+    private static final OperationMetrics GET_BASE_FILE_NAME = UtilMetrics.operation(FileUtil.class, "getBaseFileName");
+    private static final OperationMetrics GET_UNPACKED_FOLDER = UtilMetrics.operation(FileUtil.class, "getUnpackedFolder");
+    private static final OperationMetrics IS_OLE2_FILE = UtilMetrics.operation(FileUtil.class, "isOLE2File");
+    private static final OperationMetrics IS_PDF_FILE = UtilMetrics.operation(FileUtil.class, "isPdfFile");
+    private static final OperationMetrics IS_ZIP_FILE = UtilMetrics.operation(FileUtil.class, "isZipFile");
+    private static final OperationMetrics IS_OFFICE_FILE_ENCRYPTED = UtilMetrics.operation(FileUtil.class, "isOfficeFileEncrypted");
+    private static final OperationMetrics IS_PDF_FILE_ENCRYPTED = UtilMetrics.operation(FileUtil.class, "isPdfFileEncrypted");
+    private static final OperationMetrics GET_FOLDER_SIZE = UtilMetrics.operation(FileUtil.class, "getFolderSize");
+    private static final OperationMetrics HAS_EMPTY_ZIP_ENTRY = UtilMetrics.operation(FileUtil.class, "hasEmptyZipEntry");
+    private static final OperationMetrics RESOLVE_DUPLICATE_FILE = UtilMetrics.operation(FileUtil.class, "resolveDuplicateFile");
+
     private FileUtil() {} // 인스턴스화 방지
     
     /**
@@ -39,6 +57,7 @@ public class FileUtil {
      * @return 순수 파일명(확장자 제외), 문제 발생 시 빈 문자열("")
      */
     public static String getBaseFileName(File file) {
+        long start = UtilMetrics.start();
         try {
             if (file == null) {
                 logger.error("파일 객체가 null입니다.");
@@ -72,8 +91,11 @@ public class FileUtil {
 
         } catch (Exception e) {
             // 예외 발생 시 로깅 후 빈 문자열 반환
+            GET_BASE_FILE_NAME.error();
             logger.error("파일명 추출 중 예외 발생: {}", file, e);
             return "";
+        } finally {
+            GET_BASE_FILE_NAME.stop(start);
         }
     }
     
@@ -90,6 +112,7 @@ public class FileUtil {
      * @return 생성된 "_unpacked" 하위 폴더 File 객체, 문제가 있으면 null
      */
     public static File getUnpackedFolder(File file) {
+        long start = UtilMetrics.start();
         try {
             if (file == null) {
                 logger.error("파일 객체가 null입니다.");
@@ -135,8 +158,11 @@ public class FileUtil {
             return unpackedFolder;
 
         } catch (Exception e) {
+            GET_UNPACKED_FOLDER.error();
             logger.error("Unpacked 폴더 생성 중 예외 발생: {}", file, e);
             return null;
+        } finally {
+            GET_UNPACKED_FOLDER.stop(start);
         }
     }
 
@@ -148,15 +174,28 @@ public class FileUtil {
      * OLE2 파일(xls, doc 등) 여부 확인
      */
     public static boolean isOLE2File(File file) {
+        long start = UtilMetrics.start();
+        try {
+            return ole2File(file, IS_OLE2_FILE);
+        } finally {
+            IS_OLE2_FILE.stop(start);
+        }
+    }
+
+    // 내부 호출용 (읽은 바이트/예외는 호출한 메서드 지표에 기록)
+    private static boolean ole2File(File file, OperationMetrics metrics) {
         if (file == null || !file.exists() || !file.isFile()) return false;
 
         try (InputStream is = new FileInputStream(file)) {
             byte[] header = new byte[OLE2_HEADER.length];
-            if (is.read(header) != OLE2_HEADER.length) return false;
+            int read = is.read(header);
+            metrics.bytesRead(read);
+            if (read != OLE2_HEADER.length) return false;
             boolean result = Arrays.equals(header, OLE2_HEADER);
             logger.debug("OLE2 검사: {} → {}", file.getName(), result);
             return result;
         } catch (IOException e) {
+            metrics.error();
             logger.warn("OLE2 파일 검사 실패: {}", file.getAbsolutePath(), e);
             return false;
         }
@@ -166,17 +205,25 @@ public class FileUtil {
      * PDF 파일 여부 확인
      */
     public static boolean isPdfFile(File file) {
-        if (file == null || !file.exists() || !file.isFile()) return false;
-
-        try (InputStream is = new FileInputStream(file)) {
-            byte[] header = new byte[PDF_HEADER.length];
-            if (is.read(header) != PDF_HEADER.length) return false;
-            boolean result = Arrays.equals(header, PDF_HEADER);
-            logger.debug("PDF 검사: {} → {}", file.getName(), result);
-            return result;
-        } catch (IOException e) {
-            logger.warn("PDF 파일 검사 실패: {}", file.getAbsolutePath(), e);
-            return false;
+        long start = UtilMetrics.start();
+        try {
+            if (file == null || !file.exists() || !file.isFile()) return false;
+
+            try (InputStream is = new FileInputStream(file)) {
+                byte[] header = new byte[PDF_HEADER.length];
+                int read = is.read(header);
+                IS_PDF_FILE.bytesRead(read);
+                if (read != PDF_HEADER.length) return false;
+                boolean result = Arrays.equals(header, PDF_HEADER);
+                logger.debug("PDF 검사: {} → {}", file.getName(), result);
+                return result;
+            } catch (IOException e) {
+                IS_PDF_FILE.error();
+                logger.warn("PDF 파일 검사 실패: {}", file.getAbsolutePath(), e);
+                return false;
+            }
+        } finally {
+            IS_PDF_FILE.stop(start);
         }
     }
 
@@ -184,15 +231,28 @@ public class FileUtil {
      * ZIP 파일 여부 확인 (매직 넘버 기준)
      */
     public static boolean isZipFile(File file) {
+        long start = UtilMetrics.start();
+        try {
+            return zipFile(file, IS_ZIP_FILE);
+        } finally {
+            IS_ZIP_FILE.stop(start);
+        }
+    }
+
+    // 내부 호출용 (읽은 바이트/예외는 호출한 메서드 지표에 기록)
+    private static boolean zipFile(File file, OperationMetrics metrics) {
         if (file == null || !file.exists() || file.length() < ZIP_HEADER.length) return false;
 
         try (InputStream is = new FileInputStream(file)) {
             byte[] header = new byte[ZIP_HEADER.length];
-            if (is.read(header) != ZIP_HEADER.length) return false;
+            int read = is.read(header);
+            metrics.bytesRead(read);
+            if (read != ZIP_HEADER.length) return false;
             boolean result = Arrays.equals(header, ZIP_HEADER);
             logger.debug("ZIP 검사: {} → {}", file.getName(), result);
             return result;
         } catch (IOException e) {
+            metrics.error();
             logger.warn("ZIP 파일 검사 실패: {}", file.getAbsolutePath(), e);
             return false;
         }
@@ -202,37 +262,88 @@ public class FileUtil {
      * Office 파일(.xls, .xlsx, .doc, .docx 등) 암호화 여부 확인
      */
     public static boolean isOfficeFileEncrypted(File file) {
-        if (file == null || !file.exists() || !file.isFile()) {
-            logger.warn("유효하지 않은 파일: {}", file);
-            return false;
-        }
+        return isOfficeFileEncrypted(file, Deadline.none());
+    }
 
-        try (InputStream is = new FileInputStream(file)) {
-            if (isOLE2File(file)) {
-                // OLE2 파일 처리
-                try (POIFSFileSystem fs = new POIFSFileSystem(is)) {
-                    EncryptionInfo info = new EncryptionInfo(fs);
-                    Decryptor decryptor = Decryptor.getInstance(info);
-                    boolean canOpen = decryptor.verifyPassword(Decryptor.DEFAULT_PASSWORD);
-                    logger.debug("OLE2 암호화 여부: {} → {}", file.getName(), !canOpen);
-                    return !canOpen;
-                } catch (EncryptedDocumentException ede) {
-                    logger.debug("OLE2 암호화 파일: {}", file.getName());
-                    return true;
-                }
-            } else {
-                // OOXML 파일 처리
-                try (OPCPackage opc = OPCPackage.open(file)) {
-                    logger.debug("OOXML 정상 열림: {}", file.getName());
-                    return false;
-                } catch (EncryptedDocumentException ede) {
-                    logger.debug("OOXML 암호화 파일: {}", file.getName());
-                    return true;
+    /**
+     * Office 파일 암호화 여부 확인 (제한 시간 적용)
+     * - OLE2: 파일 읽기마다, 그리고 암호 검증 전에 deadline 확인
+     * - OOXML: ZIP 중앙 디렉토리만 읽으므로 열기 전후에 deadline 확인
+     * - 중단 시 열린 스트림과 POI 파일 시스템은 즉시 닫힘
+     *
+     * @throws DeadlineExceededException 제한 시간 초과 또는 취소 시
+     */
+    public static boolean isOfficeFileEncrypted(File file, Deadline deadline) {
+        Objects.requireNonNull(deadline, "deadline");
+        long start = UtilMetrics.start();
+        try {
+            if (file == null || !file.exists() || !file.isFile()) {
+                logger.warn("유효하지 않은 파일: {}", file);
+                return false;
+            }
+
+            try {
+                deadline.check();
+                if (ole2File(file, IS_OFFICE_FILE_ENCRYPTED)) {
+                    // OLE2 파일 처리
+                    try (InputStream is = new DeadlineInputStream(new FileInputStream(file), deadline, IS_OFFICE_FILE_ENCRYPTED);
+                         POIFSFileSystem fs = new POIFSFileSystem(is)) {
+                        EncryptionInfo info = new EncryptionInfo(fs);
+                        Decryptor decryptor = Decryptor.getInstance(info);
+                        deadline.check();
+                        boolean canOpen = decryptor.verifyPassword(Decryptor.DEFAULT_PASSWORD);
+                        logger.debug("OLE2 암호화 여부: {} → {}", file.getName(), !canOpen);
+                        return !canOpen;
+                    } catch (EncryptedDocumentException ede) {
+                        logger.debug("OLE2 암호화 파일: {}", file.getName());
+                        return true;
+                    }
+                } else {
+                    // OOXML 파일 처리 (ZipFile 기반 임의 접근, 파트를 메모리에 올리지 않음)
+                    try (OPCPackage opc = OPCPackage.open(file, PackageAccess.READ)) {
+                        deadline.check();
+                        logger.debug("OOXML 정상 열림: {}", file.getName());
+                        return false;
+                    } catch (EncryptedDocumentException ede) {
+                        logger.debug("OOXML 암호화 파일: {}", file.getName());
+                        return true;
+                    }
                 }
+            } catch (DeadlineExceededException e) {
+                IS_OFFICE_FILE_ENCRYPTED.error();
+                throw e;
+            } catch (Exception e) {
+                IS_OFFICE_FILE_ENCRYPTED.error();
+                // POI 가 스트림 예외를 감싸서 던지는 경우
+                if (deadline.isExpired()) throw new DeadlineExceededException("Office 파일 암호화 확인 제한 시간 초과", e);
+                logger.warn("Office 파일 암호화 확인 실패: {}", file.getName(), e);
+                return false;
             }
-        } catch (Exception e) {
-            logger.warn("Office 파일 암호화 확인 실패: {}", file.getName(), e);
-            return false;
+        } finally {
+            IS_OFFICE_FILE_ENCRYPTED.stop(start);
+        }
+    }
+
+    /**
+     * PDF 파일 암호화 여부 확인 (trailer 의 /Encrypt 기준, 전체 파싱 없음)
+     *
+     * @see PdfInspector#inspect(File)
+     */
+    public static boolean isPdfFileEncrypted(File file) {
+        long start = UtilMetrics.start();
+        try {
+            PdfInspector.PdfInfo info = PdfInspector.inspect(file, IS_PDF_FILE_ENCRYPTED);
+            if (info == null) {
+                // PDF 가 아니거나 읽을 수 없는 파일 (inspect 가 예외를 로그로 남기고 null 반환)
+                if (file != null && file.isFile()) IS_PDF_FILE_ENCRYPTED.error();
+                return false;
+            }
+            return info.isEncrypted();
+        } catch (RuntimeException e) {
+            IS_PDF_FILE_ENCRYPTED.error();
+            throw e;
+        } finally {
+            IS_PDF_FILE_ENCRYPTED.stop(start);
         }
     }
 
@@ -242,6 +353,18 @@ public class FileUtil {
 
     /** 폴더 크기 계산 (재귀) */
     public static long getFolderSize(File folder) {
+        long start = UtilMetrics.start();
+        try {
+            return folderSize(folder);
+        } catch (RuntimeException e) {
+            GET_FOLDER_SIZE.error();
+            throw e;
+        } finally {
+            GET_FOLDER_SIZE.stop(start);
+        }
+    }
+
+    private static long folderSize(File folder) {
         if (folder == null || !folder.isDirectory()) return 0;
 
         long size = 0;
@@ -249,7 +372,7 @@ public class FileUtil {
         if (files == null) return 0;
 
         for (File f : files) {
-            size += f.isFile() ? f.length() : getFolderSize(f);
+            size += f.isFile() ? f.length() : folderSize(f);
         }
         logger.debug("폴더 크기 계산: {} → {} bytes", folder.getAbsolutePath(), size);
         return size;
@@ -257,22 +380,28 @@ public class FileUtil {
 
     /** ZIP 파일에 빈(entry 이름 없는) 항목 존재 여부 확인 */
     public static boolean hasEmptyZipEntry(File file) {
-        if (!isZipFile(file)) return false;
-
-        try (ZipFile zip = new ZipFile(file)) {
-            Enumeration<? extends ZipEntry> entries = zip.entries();
-            while (entries.hasMoreElements()) {
-                ZipEntry entry = entries.nextElement();
-                if (entry.getName() == null || entry.getName().trim().isEmpty()) {
-                    logger.debug("ZIP 빈 entry 발견: {}", file.getName());
-                    return true;
+        long start = UtilMetrics.start();
+        try {
+            if (!zipFile(file, HAS_EMPTY_ZIP_ENTRY)) return false;
+
+            try (ZipFile zip = new ZipFile(file)) {
+                Enumeration<? extends ZipEntry> entries = zip.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    if (entry.getName() == null || entry.getName().trim().isEmpty()) {
+                        logger.debug("ZIP 빈 entry 발견: {}", file.getName());
+                        return true;
+                    }
                 }
+            } catch (IOException e) {
+                HAS_EMPTY_ZIP_ENTRY.error();
+                logger.warn("ZIP 파일 검사 실패: {}", file.getAbsolutePath(), e);
+                return false;
             }
-        } catch (IOException e) {
-            logger.warn("ZIP 파일 검사 실패: {}", file.getAbsolutePath(), e);
             return false;
+        } finally {
+            HAS_EMPTY_ZIP_ENTRY.stop(start);
         }
-        return false;
     }
 
     // ===============================
@@ -281,21 +410,66 @@ public class FileUtil {
 
     /** 동일 파일명 존재 시 (1), (2), ... 형식으로 변경 */
     public static File resolveDuplicateFile(File dir, String originalFileName) {
-        File file = new File(dir, originalFileName);
-        if (!file.exists()) return file;
-
-        String base = originalFileName;
-        String ext = "";
-        int dot = originalFileName.lastIndexOf('.');
-        if (dot != -1) { base = originalFileName.substring(0, dot); ext = originalFileName.substring(dot); }
-
-        int count = 1;
-        while (file.exists()) {
-            file = new File(dir, base + "(" + count + ")" + ext);
-            count++;
+        long start = UtilMetrics.start();
+        try {
+            File file = new File(dir, originalFileName);
+            if (!file.exists()) return file;
+
+            String base = originalFileName;
+            String ext = "";
+            int dot = originalFileName.lastIndexOf('.');
+            if (dot != -1) { base = originalFileName.substring(0, dot); ext = originalFileName.substring(dot); }
+
+            int count = 1;
+            while (file.exists()) {
+                file = new File(dir, base + "(" + count + ")" + ext);
+                count++;
+            }
+            logger.debug("중복 파일명 처리: {} → {}", originalFileName, file.getName());
+            return file;
+        } catch (RuntimeException e) {
+            RESOLVE_DUPLICATE_FILE.error();
+            throw e;
+        } finally {
+            RESOLVE_DUPLICATE_FILE.stop(start);
+        }
+    }
+
+    /** 읽기마다 deadline 을 확인하고 읽은 바이트 수를 지표에 기록하는 InputStream */
+    private static final class DeadlineInputStream extends FilterInputStream {
+        private static final int SINGLE_READ_CHECK_MASK = 0x1FFF; // 1바이트 읽기는 8K회마다 확인
+
+        private final Deadline deadline;
+        private final OperationMetrics metrics;
+        private int singleReads;
+
+        DeadlineInputStream(InputStream in, Deadline deadline, OperationMetrics metrics) {
+            super(in);
+            this.deadline = deadline;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if ((singleReads++ & SINGLE_READ_CHECK_MASK) == 0) deadline.check();
+            int b = super.read();
+            if (b >= 0) metrics.bytesRead(1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            deadline.check();
+            int n = super.read(b, off, len);
+            metrics.bytesRead(n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            deadline.check();
+            return super.skip(n);
         }
-        logger.debug("중복 파일명 처리: {} → {}", originalFileName, file.getName());
-        return file;
     }
 
 }
\ No newline at end of file
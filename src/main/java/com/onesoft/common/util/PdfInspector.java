@@ -0,0 +1,1025 @@
+package com.onesoft.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.onesoft.common.metrics.OperationMetrics;
+
+/**
+ * PDF 파일을 전체 파싱하지 않고 검사하는 유틸리티 클래스
+ *
+ * <p>
+ * 파일 끝부분만 memory-map 하여 startxref 와 trailer 를 찾고,
+ * trailer / xref / catalog 객체만 읽어 다음 정보를 확인합니다.
+ * </p>
+ * <ul>
+ *   <li>암호화 여부 (/Encrypt)</li>
+ *   <li>헤더 버전 (%PDF-x.y)</li>
+ *   <li>선형화 여부 (/Linearized)</li>
+ *   <li>페이지 수 (Pages /Count, 알 수 없으면 -1)</li>
+ * </ul>
+ * <p>
+ * 일반 xref 테이블, xref 스트림(FlateDecode + PNG predictor), 증분 업데이트(/Prev),
+ * 하이브리드 파일(/XRefStm), 객체 스트림 안의 catalog 를 지원합니다.
+ * </p>
+ */
+public final class PdfInspector {
+
+    private static final Logger logger = LoggerFactory.getLogger(PdfInspector.class);
+
+    private static final byte[] PDF_HEADER = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] STARTXREF = "startxref".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ENCRYPT = "/Encrypt".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LINEARIZED = "/Linearized".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int HEAD_SIZE = 1024;              // 헤더/선형화 사전 검사 범위
+    private static final int TAIL_SIZE = 4 * 1024;           // startxref 검색 범위
+    private static final int MAX_TAIL_SIZE = 64 * 1024;      // 끝에 쓰레기 데이터가 붙은 파일 대비
+    private static final int BUFFER_SIZE = 4 * 1024;
+    private static final int MAX_XREF_SECTIONS = 64;         // 증분 업데이트 체인 상한
+    private static final int MAX_NESTING = 64;
+    private static final int MAX_STREAM_LENGTH = 32 * 1024 * 1024;
+    private static final int MAX_DECODED_LENGTH = 64 * 1024 * 1024;
+
+    private PdfInspector() {} // 인스턴스화 방지
+
+    // ===============================
+    // 검사 결과
+    // ===============================
+
+    /**
+     * PDF 검사 결과
+     */
+    public static final class PdfInfo {
+        private final String version;
+        private final boolean encrypted;
+        private final boolean linearized;
+        private final int pageCount;
+
+        PdfInfo(String version, boolean encrypted, boolean linearized, int pageCount) {
+            this.version = version;
+            this.encrypted = encrypted;
+            this.linearized = linearized;
+            this.pageCount = pageCount;
+        }
+
+        /** 헤더 버전 (예: "1.7"), 읽을 수 없으면 빈 문자열 */
+        public String getVersion() {
+            return version;
+        }
+
+        /** trailer 에 /Encrypt 가 있는지 여부 */
+        public boolean isEncrypted() {
+            return encrypted;
+        }
+
+        /** 첫 객체가 선형화 사전인지 여부 */
+        public boolean isLinearized() {
+            return linearized;
+        }
+
+        /** 페이지 수 (근사값), 알 수 없으면 -1 */
+        public int getPageCount() {
+            return pageCount;
+        }
+
+        @Override
+        public String toString() {
+            return "PdfInfo[version=" + version + ", encrypted=" + encrypted
+                    + ", linearized=" + linearized + ", pageCount=" + pageCount + "]";
+        }
+    }
+
+    // ===============================
+    // 단건 검사
+    // ===============================
+
+    /**
+     * PDF 파일을 검사합니다.
+     * PDF 가 아니거나 문제가 발생하면 로그를 남기고 null 을 반환합니다.
+     *
+     * @param file 대상 파일
+     * @return 검사 결과, PDF 가 아니거나 읽을 수 없으면 null
+     */
+    public static PdfInfo inspect(File file) {
+        return inspect(file, null);
+    }
+
+    /** metrics 가 있으면 읽은 바이트 수를 기록 ({@link FileUtil#isPdfFileEncrypted(File)} 용) */
+    static PdfInfo inspect(File file, OperationMetrics metrics) {
+        if (file == null || !file.isFile()) {
+            logger.warn("유효하지 않은 파일: {}", file);
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            PdfInfo info = new Inspection(channel, metrics).run();
+            logger.debug("PDF 검사: {} → {}", file.getName(), info);
+            return info;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("PDF 검사 실패: {}", file.getAbsolutePath(), e);
+            return null;
+        }
+    }
+
+    // ===============================
+    // 일괄 검사
+    // ===============================
+
+    /**
+     * 여러 파일을 병렬로 검사합니다. (호출마다 임시 스레드 풀 생성)
+     * PDF 가 아니거나 검사에 실패한 파일은 결과에서 제외됩니다.
+     *
+     * @param files 대상 파일 목록
+     * @param parallelism 동시 검사 스레드 수 (1 이상)
+     * @return 입력 순서를 유지하는 파일별 검사 결과
+     */
+    public static Map<File, PdfInfo> inspectAll(Collection<File> files, int parallelism) {
+        if (files == null || files.isEmpty()) return new LinkedHashMap<>();
+
+        int threads = Math.max(1, Math.min(parallelism, files.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            return inspectAll(files, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 호출자가 관리하는 스레드 풀로 여러 파일을 병렬로 검사합니다.
+     * 실패한 파일은 로그를 남기고 건너뛰며, 나머지 파일은 계속 검사합니다.
+     * executor 는 종료하지 않습니다.
+     *
+     * @param files 대상 파일 목록
+     * @param executor 검사에 사용할 스레드 풀
+     * @return 입력 순서를 유지하는 파일별 검사 결과
+     */
+    public static Map<File, PdfInfo> inspectAll(Collection<File> files, ExecutorService executor) {
+        Map<File, PdfInfo> results = new LinkedHashMap<>();
+        if (files == null || files.isEmpty()) return results;
+
+        Map<File, Future<PdfInfo>> futures = new LinkedHashMap<>();
+        for (File file : files) {
+            futures.put(file, executor.submit(() -> inspect(file)));
+        }
+
+        for (Map.Entry<File, Future<PdfInfo>> entry : futures.entrySet()) {
+            try {
+                PdfInfo info = entry.getValue().get();
+                if (info != null) results.put(entry.getKey(), info);
+            } catch (ExecutionException e) {
+                logger.warn("PDF 검사 실패: {}", entry.getKey().getAbsolutePath(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(f -> f.cancel(true));
+                logger.warn("PDF 일괄 검사 중단: {}건 완료", results.size());
+                break;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 디렉토리 하위(재귀)의 모든 .pdf 파일을 병렬로 검사합니다.
+     *
+     * @param dir 대상 디렉토리
+     * @param parallelism 동시 검사 스레드 수 (1 이상)
+     * @return 파일별 검사 결과, 문제 발생 시 빈 Map
+     */
+    public static Map<File, PdfInfo> inspectDirectory(File dir, int parallelism) {
+        List<File> pdfFiles = listPdfFiles(dir);
+        return pdfFiles.isEmpty() ? new LinkedHashMap<>() : inspectAll(pdfFiles, parallelism);
+    }
+
+    /**
+     * 호출자가 관리하는 스레드 풀로 디렉토리 하위(재귀)의 모든 .pdf 파일을 검사합니다.
+     *
+     * @param dir 대상 디렉토리
+     * @param executor 검사에 사용할 스레드 풀 (종료하지 않음)
+     * @return 파일별 검사 결과, 문제 발생 시 빈 Map
+     */
+    public static Map<File, PdfInfo> inspectDirectory(File dir, ExecutorService executor) {
+        return inspectAll(listPdfFiles(dir), executor);
+    }
+
+    private static List<File> listPdfFiles(File dir) {
+        if (dir == null || !dir.isDirectory()) {
+            logger.warn("유효하지 않은 디렉토리: {}", dir);
+            return new ArrayList<>();
+        }
+
+        List<File> pdfFiles;
+        try (Stream<Path> paths = Files.walk(dir.toPath())) {
+            pdfFiles = paths.filter(Files::isRegularFile)
+                    .map(Path::toFile)
+                    .filter(f -> "pdf".equals(StringUtil.fileExtension(f.getName())))
+                    .collect(Collectors.toList());
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("디렉토리 탐색 실패: {}", dir.getAbsolutePath(), e);
+            return new ArrayList<>();
+        }
+
+        logger.debug("PDF 일괄 검사 대상: {} → {}건", dir.getAbsolutePath(), pdfFiles.size());
+        return pdfFiles;
+    }
+
+    // ===============================
+    // 검사 구현
+    // ===============================
+
+    /** 파일 1건 검사 상태 (스레드 간 공유하지 않음) */
+    private static final class Inspection {
+        private final FileChannel channel;
+        private final long size;
+        private final OperationMetrics metrics;
+        private final ChannelSource source;
+        private final List<XrefSection> sections = new ArrayList<>();
+        private final Map<Long, ObjectStream> objectStreams = new HashMap<>();
+        private Map<String, Object> trailer;
+        private boolean encrypted;
+
+        Inspection(FileChannel channel, OperationMetrics metrics) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.metrics = metrics;
+            this.source = new ChannelSource(channel, size, metrics);
+        }
+
+        private MappedByteBuffer mapTail(int length) throws IOException {
+            MappedByteBuffer tail = channel.map(FileChannel.MapMode.READ_ONLY, size - length, length);
+            if (metrics != null) metrics.bytesRead(length);
+            return tail;
+        }
+
+        PdfInfo run() throws IOException {
+            byte[] head = source.read(0, (int) Math.min(size, HEAD_SIZE));
+            if (indexOf(head, PDF_HEADER) != 0) return null;
+
+            String version = parseVersion(head);
+            long linearizedPages = -1;
+            boolean linearized = false;
+            if (indexOf(head, LINEARIZED) >= 0) {
+                Map<String, Object> dict = readLinearizationDict();
+                if (dict != null) {
+                    linearized = true;
+                    linearizedPages = asLong(dict.get("N"), -1);
+                }
+            }
+
+            int tailLength = (int) Math.min(size, TAIL_SIZE);
+            MappedByteBuffer tail = mapTail(tailLength);
+            int at = lastIndexOf(tail, STARTXREF);
+            if (at < 0 && tailLength < size) {
+                tailLength = (int) Math.min(size, MAX_TAIL_SIZE);
+                tail = mapTail(tailLength);
+                at = lastIndexOf(tail, STARTXREF);
+            }
+
+            long pageCount = -1;
+            try {
+                if (at < 0) throw new PdfFormatException("startxref 없음");
+                Lexer lexer = new Lexer(source);
+                lexer.pos = size - tailLength + at + STARTXREF.length;
+                readXrefChain(asLong(lexer.readObject(0), -1));
+                pageCount = readPageCount();
+            } catch (RuntimeException e) {
+                // xref 를 따라갈 수 없는 손상 파일: trailer 영역 문자열 검색으로 대체
+                // (이미 찾은 /Encrypt 는 encrypted 필드에 유지됨)
+                logger.debug("xref 해석 실패, 근사 검사로 대체: {}", e.getMessage());
+                encrypted = encrypted || lastIndexOf(tail, ENCRYPT) >= 0;
+            }
+
+            if (pageCount < 0) pageCount = linearizedPages;
+            return new PdfInfo(version, encrypted, linearized, (int) Math.min(pageCount, Integer.MAX_VALUE));
+        }
+
+        private Map<String, Object> readLinearizationDict() {
+            try {
+                Lexer lexer = new Lexer(source);
+                Object value = readIndirect(lexer, 0).value;
+                if (value instanceof Map && ((Map<?, ?>) value).containsKey("Linearized")) {
+                    return asDict(value);
+                }
+            } catch (RuntimeException e) {
+                logger.debug("선형화 사전 해석 실패: {}", e.getMessage());
+            }
+            return null;
+        }
+
+        /** startxref 부터 /Prev 체인을 따라 xref 섹션을 최신순으로 수집 */
+        private void readXrefChain(long offset) {
+            Set<Long> visited = new HashSet<>();
+            long next = offset;
+            while (next >= 0 && sections.size() < MAX_XREF_SECTIONS && visited.add(next)) {
+                Map<String, Object> sectionTrailer;
+                try {
+                    sectionTrailer = readXrefSection(next);
+                } catch (RuntimeException e) {
+                    if (trailer == null) throw e;
+                    logger.debug("이전 xref 섹션 해석 실패: offset={}", next);
+                    break;
+                }
+                if (trailer == null) trailer = sectionTrailer;
+                if (sectionTrailer.containsKey("Encrypt")) encrypted = true;
+
+                // 하이브리드 파일: 테이블 다음, /Prev 이전 순서로 적용
+                long stm = asLong(sectionTrailer.get("XRefStm"), -1);
+                if (stm >= 0 && visited.add(stm)) {
+                    try {
+                        readXrefSection(stm);
+                    } catch (RuntimeException e) {
+                        logger.debug("XRefStm 해석 실패: offset={}", stm);
+                    }
+                }
+                next = asLong(sectionTrailer.get("Prev"), -1);
+            }
+        }
+
+        /** offset 위치의 xref 섹션(테이블 또는 스트림)을 읽고 해당 trailer 사전을 반환 */
+        private Map<String, Object> readXrefSection(long offset) {
+            if (offset < 0 || offset >= size) throw new PdfFormatException("잘못된 xref offset: " + offset);
+
+            Lexer lexer = new Lexer(source);
+            lexer.pos = offset;
+            lexer.skipSpace();
+            if (lexer.matches("xref")) {
+                lexer.pos += 4;
+                return readXrefTable(lexer);
+            }
+
+            IndirectObject xref = readIndirect(lexer, offset);
+            Map<String, Object> dict = asDict(xref.value);
+            if (xref.streamStart < 0 || !"XRef".equals(dict.get("Type"))) {
+                throw new PdfFormatException("xref 섹션 아님: offset=" + offset);
+            }
+
+            List<?> w = (List<?>) dict.get("W");
+            if (w == null || w.size() < 3) throw new PdfFormatException("/W 없음");
+            int[] widths = new int[3];
+            for (int i = 0; i < 3; i++) {
+                long width = asLong(w.get(i), -1);
+                if (width < 0 || width > 8) throw new PdfFormatException("잘못된 /W: " + w);
+                widths[i] = (int) width;
+            }
+
+            long[] index;
+            List<?> idx = (List<?>) dict.get("Index");
+            if (idx == null) {
+                index = new long[] {0, asLong(dict.get("Size"), 0)};
+            } else {
+                index = new long[idx.size() & ~1];
+                for (int i = 0; i < index.length; i++) index[i] = asLong(idx.get(i), 0);
+            }
+
+            sections.add(new StreamSection(readStream(xref, 0), widths, index));
+            return dict;
+        }
+
+        /** 일반 xref 테이블: 항목은 읽지 않고 subsection 위치만 기록 */
+        private Map<String, Object> readXrefTable(Lexer lexer) {
+            List<long[]> subsections = new ArrayList<>();
+            while (true) {
+                lexer.skipSpace();
+                if (lexer.matches("trailer")) {
+                    lexer.pos += 7;
+                    Map<String, Object> dict = asDict(lexer.readObject(0));
+                    sections.add(new TableSection(source, subsections));
+                    return dict;
+                }
+
+                long start = asLong(lexer.readObject(0), -1);
+                long count = asLong(lexer.readObject(0), -1);
+                if (start < 0 || count < 0 || count > Integer.MAX_VALUE) {
+                    throw new PdfFormatException("잘못된 xref subsection");
+                }
+                while (isWhite(source.get(lexer.pos))) lexer.pos++;
+
+                // 항목은 20바이트가 표준이지만 줄바꿈이 1바이트인 파일도 허용
+                long entriesOffset = lexer.pos;
+                int entryLength = 18;
+                while (entryLength < 20 && isWhite(source.get(entriesOffset + entryLength))) entryLength++;
+
+                subsections.add(new long[] {start, count, entriesOffset, entryLength});
+                lexer.pos = entriesOffset + count * entryLength;
+                if (lexer.pos > size) throw new PdfFormatException("xref 테이블이 파일 범위를 벗어남");
+            }
+        }
+
+        private long readPageCount() {
+            if (trailer == null) return -1;
+            Object root = resolve(trailer.get("Root"), 0);
+            if (!(root instanceof Map)) return -1;
+            Object pages = resolve(asDict(root).get("Pages"), 0);
+            if (!(pages instanceof Map)) return -1;
+            return asLong(resolve(asDict(pages).get("Count"), 0), -1);
+        }
+
+        /** 간접 참조이면 xref 를 통해 객체를 읽고, 아니면 그대로 반환 */
+        private Object resolve(Object value, int depth) {
+            if (!(value instanceof Ref)) return value;
+            if (depth > 4) throw new PdfFormatException("간접 참조 깊이 초과");
+
+            long[] entry = lookup(((Ref) value).num);
+            if (entry == null || entry[0] == 0) return null;
+
+            if (entry[0] == 1) {
+                return readIndirect(new Lexer(source), entry[1]).value;
+            }
+            if (entry[0] == 2) {
+                // 암호화 파일의 객체 스트림은 복호화 없이 읽을 수 없음
+                if (encrypted) return null;
+                return readFromObjectStream(entry[1], ((Ref) value).num, depth);
+            }
+            return null;
+        }
+
+        private long[] lookup(int objNum) {
+            for (XrefSection section : sections) {
+                long[] entry = section.lookup(objNum);
+                if (entry != null) return entry;
+            }
+            return null;
+        }
+
+        private Object readFromObjectStream(long streamNum, int objNum, int depth) {
+            ObjectStream stm = objectStreams.get(streamNum);
+            if (stm == null) {
+                long[] entry = lookup((int) streamNum);
+                if (entry == null || entry[0] != 1) return null;
+                IndirectObject object = readIndirect(new Lexer(source), entry[1]);
+                Map<String, Object> dict = asDict(object.value);
+                stm = new ObjectStream(readStream(object, depth + 1),
+                        asLong(dict.get("First"), -1), asLong(dict.get("N"), 0));
+                objectStreams.put(streamNum, stm);
+            }
+            if (stm.first < 0) return null;
+
+            // 헤더: "objNum offset" 쌍 N개, 객체 본문은 /First 부터
+            Lexer lexer = new Lexer(new ArraySource(stm.data));
+            for (long i = 0; i < stm.count; i++) {
+                long num = asLong(lexer.readObject(0), -1);
+                long off = asLong(lexer.readObject(0), -1);
+                if (num == objNum) {
+                    lexer.pos = stm.first + off;
+                    return lexer.readObject(0);
+                }
+            }
+            return null;
+        }
+
+        private IndirectObject readIndirect(Lexer lexer, long offset) {
+            lexer.pos = offset;
+            lexer.readObject(0); // 객체 번호
+            lexer.readObject(0); // 세대 번호
+            Object keyword = lexer.readObject(0);
+            if (!(keyword instanceof Keyword) || !"obj".equals(((Keyword) keyword).text)) {
+                throw new PdfFormatException("간접 객체 아님: offset=" + offset);
+            }
+
+            Object value = lexer.readObject(0);
+            long streamStart = -1;
+            if (value instanceof Map) {
+                lexer.skipSpace();
+                if (lexer.matches("stream")) {
+                    lexer.pos += 6;
+                    if (source.get(lexer.pos) == '\r') lexer.pos++;
+                    if (source.get(lexer.pos) == '\n') lexer.pos++;
+                    streamStart = lexer.pos;
+                }
+            }
+            return new IndirectObject(value, streamStart);
+        }
+
+        private byte[] readStream(IndirectObject object, int depth) {
+            Map<String, Object> dict = asDict(object.value);
+            if (object.streamStart < 0) throw new PdfFormatException("스트림 객체 아님");
+            long length = asLong(resolve(dict.get("Length"), depth + 1), -1);
+            if (length < 0 || length > MAX_STREAM_LENGTH || object.streamStart + length > size) {
+                throw new PdfFormatException("잘못된 스트림 길이: " + length);
+            }
+            byte[] raw = source.read(object.streamStart, (int) length);
+
+            Object filter = dict.get("Filter");
+            Object params = dict.get("DecodeParms");
+            if (filter instanceof List && ((List<?>) filter).size() == 1) filter = ((List<?>) filter).get(0);
+            if (params instanceof List && ((List<?>) params).size() == 1) params = ((List<?>) params).get(0);
+
+            if (filter == null) return raw;
+            if (!"FlateDecode".equals(filter)) throw new PdfFormatException("지원하지 않는 필터: " + filter);
+
+            byte[] decoded = inflate(raw);
+            if (params instanceof Map) {
+                Map<String, Object> p = asDict(params);
+                decoded = unpredict(decoded, (int) asLong(p.get("Predictor"), 1),
+                        (int) asLong(p.get("Columns"), 1), (int) asLong(p.get("Colors"), 1),
+                        (int) asLong(p.get("BitsPerComponent"), 8));
+            }
+            return decoded;
+        }
+    }
+
+    // ===============================
+    // xref 섹션
+    // ===============================
+
+    /** 객체 번호 → {type, field2, field3}, 해당 섹션에 없으면 null */
+    private interface XrefSection {
+        long[] lookup(int objNum);
+    }
+
+    /** 일반 xref 테이블: 필요한 항목만 파일에서 직접 읽음 */
+    private static final class TableSection implements XrefSection {
+        private final ChannelSource source;
+        private final List<long[]> subsections;
+
+        TableSection(ChannelSource source, List<long[]> subsections) {
+            this.source = source;
+            this.subsections = subsections;
+        }
+
+        @Override
+        public long[] lookup(int objNum) {
+            for (long[] sub : subsections) {
+                if (objNum < sub[0] || objNum >= sub[0] + sub[1]) continue;
+
+                long pos = sub[2] + (objNum - sub[0]) * sub[3];
+                long offset = 0;
+                for (int i = 0; i < 10; i++) {
+                    int c = source.get(pos + i);
+                    if (c < '0' || c > '9') throw new PdfFormatException("잘못된 xref 항목: " + objNum);
+                    offset = offset * 10 + (c - '0');
+                }
+                boolean inUse = source.get(pos + 17) == 'n';
+                return inUse ? new long[] {1, offset, 0} : new long[] {0, 0, 0};
+            }
+            return null;
+        }
+    }
+
+    /** xref 스트림: 디코딩된 고정 폭 레코드 */
+    private static final class StreamSection implements XrefSection {
+        private final byte[] data;
+        private final int[] widths;
+        private final long[] index;
+
+        StreamSection(byte[] data, int[] widths, long[] index) {
+            this.data = data;
+            this.widths = widths;
+            this.index = index;
+        }
+
+        @Override
+        public long[] lookup(int objNum) {
+            int rowSize = widths[0] + widths[1] + widths[2];
+            long row = 0;
+            for (int i = 0; i + 1 < index.length; i += 2) {
+                long start = index[i];
+                long count = index[i + 1];
+                if (objNum >= start && objNum < start + count) {
+                    long pos = (row + objNum - start) * rowSize;
+                    if (pos < 0 || pos + rowSize > data.length) return null;
+                    int p = (int) pos;
+                    long type = widths[0] == 0 ? 1 : field(p, widths[0]);
+                    long f2 = field(p + widths[0], widths[1]);
+                    long f3 = field(p + widths[0] + widths[1], widths[2]);
+                    return new long[] {type, f2, f3};
+                }
+                row += count;
+            }
+            return null;
+        }
+
+        private long field(int pos, int width) {
+            long value = 0;
+            for (int i = 0; i < width; i++) value = (value << 8) | (data[pos + i] & 0xFF);
+            return value;
+        }
+    }
+
+    // ===============================
+    // 바이트 소스 / 렉서
+    // ===============================
+
+    private interface ByteSource {
+        /** pos 위치의 바이트(0~255), 범위 밖이면 -1 */
+        int get(long pos);
+    }
+
+    /** FileChannel 위의 작은 슬라이딩 버퍼 */
+    private static final class ChannelSource implements ByteSource {
+        private final FileChannel channel;
+        private final long size;
+        private final OperationMetrics metrics;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private long bufferStart = -1;
+        private int bufferLength;
+
+        ChannelSource(FileChannel channel, long size, OperationMetrics metrics) {
+            this.channel = channel;
+            this.size = size;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public int get(long pos) {
+            if (pos < 0 || pos >= size) return -1;
+            if (bufferStart < 0 || pos < bufferStart || pos >= bufferStart + bufferLength) {
+                buffer.clear();
+                fill(buffer, pos);
+                bufferStart = pos;
+                bufferLength = buffer.position();
+            }
+            return buffer.get((int) (pos - bufferStart)) & 0xFF;
+        }
+
+        byte[] read(long pos, int length) {
+            ByteBuffer target = ByteBuffer.allocate(length);
+            fill(target, pos);
+            return target.array();
+        }
+
+        private void fill(ByteBuffer target, long pos) {
+            try {
+                while (target.hasRemaining()) {
+                    int n = channel.read(target, pos + target.position());
+                    if (n < 0) break;
+                    if (metrics != null) metrics.bytesRead(n);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class ArraySource implements ByteSource {
+        private final byte[] data;
+
+        ArraySource(byte[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public int get(long pos) {
+            return pos < 0 || pos >= data.length ? -1 : data[(int) pos] & 0xFF;
+        }
+    }
+
+    /**
+     * 최소 PDF 객체 렉서
+     * - 사전 → Map, 배열 → List, 이름 → String(슬래시 제외), 정수 → Long, 실수 → Double
+     * - 간접 참조 → Ref, 문자열 → STRING 표식, 그 외 → Keyword
+     */
+    private static final class Lexer {
+        private final ByteSource src;
+        long pos;
+
+        Lexer(ByteSource src) {
+            this.src = src;
+        }
+
+        void skipSpace() {
+            while (true) {
+                int c = src.get(pos);
+                if (isWhite(c)) {
+                    pos++;
+                } else if (c == '%') {
+                    while (c != -1 && c != '\r' && c != '\n') c = src.get(++pos);
+                } else {
+                    return;
+                }
+            }
+        }
+
+        boolean matches(String keyword) {
+            for (int i = 0; i < keyword.length(); i++) {
+                if (src.get(pos + i) != keyword.charAt(i)) return false;
+            }
+            return !isRegular(src.get(pos + keyword.length()));
+        }
+
+        Object readObject(int depth) {
+            if (depth > MAX_NESTING) throw new PdfFormatException("중첩 깊이 초과");
+            skipSpace();
+            int c = src.get(pos);
+            switch (c) {
+                case -1:
+                    throw new PdfFormatException("예기치 않은 파일 끝");
+                case '/':
+                    pos++;
+                    return readToken();
+                case '[': {
+                    pos++;
+                    List<Object> list = new ArrayList<>();
+                    while (true) {
+                        skipSpace();
+                        if (src.get(pos) == ']') {
+                            pos++;
+                            return list;
+                        }
+                        list.add(readObject(depth + 1));
+                    }
+                }
+                case '<':
+                    if (src.get(pos + 1) == '<') {
+                        pos += 2;
+                        Map<String, Object> dict = new HashMap<>();
+                        while (true) {
+                            skipSpace();
+                            if (src.get(pos) == '>' && src.get(pos + 1) == '>') {
+                                pos += 2;
+                                return dict;
+                            }
+                            Object key = readObject(depth + 1);
+                            if (!(key instanceof String)) throw new PdfFormatException("사전 키가 이름이 아님");
+                            dict.put((String) key, readObject(depth + 1));
+                        }
+                    }
+                    skipPast('>');
+                    return STRING;
+                case '(':
+                    skipLiteralString();
+                    return STRING;
+                default:
+                    if ((c >= '0' && c <= '9') || c == '+' || c == '-' || c == '.') return readNumber();
+                    if (!isRegular(c)) {
+                        pos++;
+                        throw new PdfFormatException("예기치 않은 문자: " + (char) c);
+                    }
+                    return new Keyword(readToken());
+            }
+        }
+
+        private Object readNumber() {
+            String token = readToken();
+            if (token.indexOf('.') >= 0) {
+                try {
+                    return Double.parseDouble(token);
+                } catch (NumberFormatException e) {
+                    return 0d;
+                }
+            }
+
+            long value;
+            try {
+                value = Long.parseLong(token);
+            } catch (NumberFormatException e) {
+                return 0L;
+            }
+
+            // "num gen R" 간접 참조 여부 확인
+            long save = pos;
+            skipSpace();
+            int c = src.get(pos);
+            if (value >= 0 && value <= Integer.MAX_VALUE && c >= '0' && c <= '9') {
+                readToken();
+                skipSpace();
+                if (src.get(pos) == 'R' && !isRegular(src.get(pos + 1))) {
+                    pos++;
+                    return new Ref((int) value);
+                }
+            }
+            pos = save;
+            return value;
+        }
+
+        private String readToken() {
+            StringBuilder sb = new StringBuilder();
+            int c;
+            while (isRegular(c = src.get(pos))) {
+                sb.append((char) c);
+                pos++;
+            }
+            return sb.toString();
+        }
+
+        private void skipPast(int end) {
+            int c;
+            while ((c = src.get(pos)) != -1) {
+                pos++;
+                if (c == end) return;
+            }
+        }
+
+        private void skipLiteralString() {
+            int level = 0;
+            int c;
+            while ((c = src.get(pos)) != -1) {
+                pos++;
+                if (c == '\\') {
+                    pos++;
+                } else if (c == '(') {
+                    level++;
+                } else if (c == ')' && --level == 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final Object STRING = new Object();
+
+    private static final class Keyword {
+        final String text;
+
+        Keyword(String text) {
+            this.text = text;
+        }
+    }
+
+    private static final class Ref {
+        final int num;
+
+        Ref(int num) {
+            this.num = num;
+        }
+    }
+
+    private static final class ObjectStream {
+        final byte[] data;
+        final long first;
+        final long count;
+
+        ObjectStream(byte[] data, long first, long count) {
+            this.data = data;
+            this.first = first;
+            this.count = count;
+        }
+    }
+
+    private static final class IndirectObject {
+        final Object value;
+        final long streamStart;
+
+        IndirectObject(Object value, long streamStart) {
+            this.value = value;
+            this.streamStart = streamStart;
+        }
+    }
+
+    /** 구조 해석 실패 (내부용, 근사 검사로 대체됨) */
+    private static final class PdfFormatException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        PdfFormatException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    // ===============================
+    // 헬퍼
+    // ===============================
+
+    private static boolean isWhite(int c) {
+        return c == 0 || c == '\t' || c == '\n' || c == '\f' || c == '\r' || c == ' ';
+    }
+
+    private static boolean isRegular(int c) {
+        if (c == -1 || isWhite(c)) return false;
+        switch (c) {
+            case '(': case ')': case '<': case '>': case '[': case ']':
+            case '{': case '}': case '/': case '%':
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asDict(Object value) {
+        if (!(value instanceof Map)) throw new PdfFormatException("사전이 아님");
+        return (Map<String, Object>) value;
+    }
+
+    private static long asLong(Object value, long defaultValue) {
+        return value instanceof Number ? ((Number) value).longValue() : defaultValue;
+    }
+
+    private static String parseVersion(byte[] head) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = PDF_HEADER.length; i < head.length; i++) {
+            int c = head[i];
+            if ((c < '0' || c > '9') && c != '.') break;
+            sb.append((char) c);
+        }
+        return sb.toString();
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern) {
+        outer:
+        for (int i = 0; i + pattern.length <= data.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static int lastIndexOf(ByteBuffer data, byte[] pattern) {
+        outer:
+        for (int i = data.limit() - pattern.length; i >= 0; i--) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data.get(i + j) != pattern[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static byte[] inflate(byte[] raw) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(raw);
+            // 초기 용량은 작게 잡고 필요한 만큼만 늘림 (병렬 검사 시 파일마다 큰 버퍼를 미리 잡지 않도록)
+            ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(raw.length * 4L, BUFFER_SIZE * 16));
+            byte[] chunk = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(chunk);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) break; // 잘린 스트림
+                out.write(chunk, 0, n);
+                if (out.size() > MAX_DECODED_LENGTH) throw new PdfFormatException("디코딩 크기 초과");
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new PdfFormatException("FlateDecode 실패: " + e.getMessage());
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /** PNG predictor(10~15) 복원, TIFF predictor 는 지원하지 않음 */
+    private static byte[] unpredict(byte[] data, int predictor, int columns, int colors, int bitsPerComponent) {
+        if (predictor == 1) return data;
+        if (predictor < 10) throw new PdfFormatException("지원하지 않는 predictor: " + predictor);
+        if (columns < 1 || colors < 1 || bitsPerComponent < 1 || (long) colors * bitsPerComponent * columns > MAX_DECODED_LENGTH) {
+            throw new PdfFormatException("잘못된 predictor 인자: columns=" + columns + ", colors=" + colors
+                    + ", bpc=" + bitsPerComponent);
+        }
+
+        int bytesPerPixel = Math.max(1, colors * bitsPerComponent / 8);
+        int rowLength = (colors * bitsPerComponent * columns + 7) / 8;
+        int rows = data.length / (rowLength + 1);
+        byte[] out = new byte[rows * rowLength];
+
+        for (int r = 0; r < rows; r++) {
+            int in = r * (rowLength + 1);
+            int type = data[in++];
+            int cur = r * rowLength;
+            int prev = cur - rowLength;
+            for (int i = 0; i < rowLength; i++) {
+                int raw = data[in + i] & 0xFF;
+                int left = i >= bytesPerPixel ? out[cur + i - bytesPerPixel] & 0xFF : 0;
+                int up = r > 0 ? out[prev + i] & 0xFF : 0;
+                int upLeft = r > 0 && i >= bytesPerPixel ? out[prev + i - bytesPerPixel] & 0xFF : 0;
+                int value;
+                switch (type) {
+                    case 1: value = raw + left; break;
+                    case 2: value = raw + up; break;
+                    case 3: value = raw + ((left + up) >>> 1); break;
+                    case 4: value = raw + paeth(left, up, upLeft); break;
+                    default: value = raw; break;
+                }
+                out[cur + i] = (byte) value;
+            }
+        }
+        return out;
+    }
+
+    private static int paeth(int a, int b, int c) {
+        int p = a + b - c;
+        int pa = Math.abs(p - a);
+        int pb = Math.abs(p - b);
+        int pc = Math.abs(p - c);
+        if (pa <= pb && pa <= pc) return a;
+        return pb <= pc ? b : c;
+    }
+}
@@ -1,14 +1,21 @@
 package com.onesoft.common.util;
 
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.regex.Pattern;
 
-import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.Parser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.hash.Hashing;
+import com.onesoft.common.metrics.OperationMetrics;
+import com.onesoft.common.metrics.UtilMetrics;
 
 /**
  * 문자열 관련 유틸리티 클래스
@@ -18,6 +25,22 @@ public class StringUtil {
     private StringUtil() {}
 
     private static final int MAX_TEXT_LENGTH = 20_000_000;
+    private static final int DEADLINE_CHECK_INTERVAL = 64 * 1024; // 문자 수
+
+    private static final Pattern TABS = Pattern.compile("\t+");
+    private static final Pattern DASH_OR_SPACE_LINE = Pattern.compile("[-\\s]*");
+    private static final Pattern BR_TAG = Pattern.compile("(?i)<br\\s*/?>");
+
+    // 메서드별 지표 (-Donesoft.common.metrics.enabled=true 일 때만 수집)
+    private static final OperationMetrics IS_EMPTY = UtilMetrics.operation(StringUtil.class, "isEmpty");
+    private static final OperationMetrics IS_NOT_EMPTY = UtilMetrics.operation(StringUtil.class, "isNotEmpty");
+    private static final OperationMetrics SANITIZE_EMAIL_ADDRESS = UtilMetrics.operation(StringUtil.class, "sanitizeEmailAddress");
+    private static final OperationMetrics CLEAN_TEXT = UtilMetrics.operation(StringUtil.class, "cleanText");
+    private static final OperationMetrics CLEAN_HTML_TEXT = UtilMetrics.operation(StringUtil.class, "cleanHtmlText");
+    private static final OperationMetrics LOOKS_LIKE_BASE64 = UtilMetrics.operation(StringUtil.class, "looksLikeBase64");
+    private static final OperationMetrics GET_MURMUR_HASH_HEX = UtilMetrics.operation(StringUtil.class, "getMurmurHashHex");
+    private static final OperationMetrics GET_FILE_EXTENSION = UtilMetrics.operation(StringUtil.class, "getFileExtension");
+    private static final OperationMetrics SANITIZE_FILE_NAME = UtilMetrics.operation(StringUtil.class, "sanitizeFileName");
 
     // ===============================
     // 문자열 존재 여부
@@ -25,12 +48,27 @@ public class StringUtil {
 
     /** 문자열이 null이거나 빈 문자열인지 확인 */
     public static boolean isEmpty(String str) {
-        return str == null || str.isEmpty();
+        long start = UtilMetrics.start();
+        try {
+            return empty(str);
+        } finally {
+            IS_EMPTY.stop(start);
+        }
     }
 
     /** 문자열이 null이 아니고 빈 문자열이 아닌지 확인 */
     public static boolean isNotEmpty(String str) {
-        return !isEmpty(str);
+        long start = UtilMetrics.start();
+        try {
+            return !empty(str);
+        } finally {
+            IS_NOT_EMPTY.stop(start);
+        }
+    }
+
+    // 내부 호출용 (지표 미기록)
+    private static boolean empty(String str) {
+        return str == null || str.isEmpty();
     }
 
     // ===============================
@@ -45,19 +83,27 @@ public class StringUtil {
      * @return 정리된 이메일 문자열
      */
     public static String sanitizeEmailAddress(String rawAddr) {
-        if (isEmpty(rawAddr)) return rawAddr;
+        long start = UtilMetrics.start();
+        try {
+            if (empty(rawAddr)) return rawAddr;
 
-        String cleaned = rawAddr.replaceAll("\\s+", " ").trim();
-        cleaned = cleaned.replaceAll("^[\"']+|[\"']+$", "");
+            String cleaned = rawAddr.replaceAll("\\s+", " ").trim();
+            cleaned = cleaned.replaceAll("^[\"']+|[\"']+$", "");
 
-        int openCount = cleaned.length() - cleaned.replace("(", "").length();
-        int closeCount = cleaned.length() - cleaned.replace(")", "").length();
-        if (closeCount > openCount) cleaned = cleaned.replace(")", "");
-        else if (openCount > closeCount) cleaned = cleaned.replace("(", "");
+            int openCount = cleaned.length() - cleaned.replace("(", "").length();
+            int closeCount = cleaned.length() - cleaned.replace(")", "").length();
+            if (closeCount > openCount) cleaned = cleaned.replace(")", "");
+            else if (openCount > closeCount) cleaned = cleaned.replace("(", "");
 
-        cleaned = cleaned.replaceAll("\\(([^)]+)\\)", "<$1>");
+            cleaned = cleaned.replaceAll("\\(([^)]+)\\)", "<$1>");
 
-        return cleaned;
+            return cleaned;
+        } catch (RuntimeException e) {
+            SANITIZE_EMAIL_ADDRESS.error();
+            throw e;
+        } finally {
+            SANITIZE_EMAIL_ADDRESS.stop(start);
+        }
     }
 
     // ===============================
@@ -71,18 +117,95 @@ public class StringUtil {
      * - 길이 제한
      */
     public static String cleanText(String text) {
-        if (text == null) return "";
+        return cleanText(text, Deadline.none());
+    }
 
+    /**
+     * 텍스트 클린업 (제한 시간 적용)
+     * - 64K 문자마다 deadline 확인 (줄바꿈 없는 긴 줄은 64K 조각마다 확인)
+     * - 길이 제한을 넘으면 나머지 줄은 처리하지 않음
+     *
+     * @throws DeadlineExceededException 제한 시간 초과 또는 취소 시
+     */
+    public static String cleanText(String text, Deadline deadline) {
+        Objects.requireNonNull(deadline, "deadline");
+        long start = UtilMetrics.start();
         try {
-            String cleaned = Arrays.stream(text.split("\n"))
-                    .map(String::trim)
-                    .filter(line -> !line.isEmpty() && !line.matches("[-\\s]*"))
-                    .map(line -> line.replaceAll("\t+", " "))
-                    .collect(Collectors.joining("\n"));
-            return cleaned.length() > MAX_TEXT_LENGTH ? cleaned.substring(0, MAX_TEXT_LENGTH) : cleaned;
+            return clean(text, deadline);
+        } catch (DeadlineExceededException e) {
+            CLEAN_TEXT.error();
+            throw e;
         } catch (Exception e) {
+            CLEAN_TEXT.error();
             logger.warn("텍스트 클린업 실패", e);
             return text;
+        } finally {
+            CLEAN_TEXT.stop(start);
+        }
+    }
+
+    // 내부 호출용 (지표 미기록)
+    private static String clean(String text, Deadline deadline) {
+        if (text == null) return "";
+
+        deadline.check();
+        StringBuilder cleaned = new StringBuilder(Math.min(text.length(), MAX_TEXT_LENGTH));
+        int length = text.length();
+        int nextCheck = DEADLINE_CHECK_INTERVAL;
+        int lineStart = 0;
+        while (lineStart < length && cleaned.length() < MAX_TEXT_LENGTH) {
+            int end = text.indexOf('\n', lineStart);
+            if (end < 0) end = length;
+            if (end - lineStart > DEADLINE_CHECK_INTERVAL) {
+                appendLongLine(cleaned, text, lineStart, end, deadline);
+                lineStart = end + 1;
+                nextCheck = lineStart + DEADLINE_CHECK_INTERVAL;
+                continue;
+            }
+
+            String line = text.substring(lineStart, end).trim();
+            if (!line.isEmpty() && !DASH_OR_SPACE_LINE.matcher(line).matches()) {
+                if (cleaned.length() > 0) cleaned.append('\n');
+                cleaned.append(TABS.matcher(line).replaceAll(" "));
+            }
+
+            lineStart = end + 1;
+            if (lineStart >= nextCheck) {
+                deadline.check();
+                nextCheck = lineStart + DEADLINE_CHECK_INTERVAL;
+            }
+        }
+        return cleaned.length() > MAX_TEXT_LENGTH ? cleaned.substring(0, MAX_TEXT_LENGTH) : cleaned.toString();
+    }
+
+    /**
+     * DEADLINE_CHECK_INTERVAL 보다 긴 줄을 조각 단위로 정리하고 조각마다 deadline 확인
+     * - 결과는 줄 전체에 trim, 대시/공백 줄 검사, 탭 치환을 적용한 것과 같음
+     */
+    private static void appendLongLine(StringBuilder cleaned, String text, int from, int to, Deadline deadline) {
+        // String.trim 과 동일 (' ' 이하 문자 제거)
+        while (from < to && text.charAt(from) <= ' ') from++;
+        while (to > from && text.charAt(to - 1) <= ' ') to--;
+        if (from == to) return;
+
+        boolean dashOrSpaceOnly = true;
+        for (int chunk = from; chunk < to && dashOrSpaceOnly; chunk += DEADLINE_CHECK_INTERVAL) {
+            deadline.check();
+            int chunkEnd = Math.min(to, chunk + DEADLINE_CHECK_INTERVAL);
+            dashOrSpaceOnly = DASH_OR_SPACE_LINE.matcher(text).region(chunk, chunkEnd).matches();
+        }
+        if (dashOrSpaceOnly) return;
+
+        if (cleaned.length() > 0) cleaned.append('\n');
+        for (int chunk = from; chunk < to && cleaned.length() < MAX_TEXT_LENGTH; chunk += DEADLINE_CHECK_INTERVAL) {
+            deadline.check();
+            int chunkStart = chunk;
+            int chunkEnd = Math.min(to, chunk + DEADLINE_CHECK_INTERVAL);
+            // 앞 조각이 탭으로 끝났으면 이어지는 탭은 이미 공백 하나로 치환됨
+            if (chunk > from && text.charAt(chunk - 1) == '\t') {
+                while (chunkStart < chunkEnd && text.charAt(chunkStart) == '\t') chunkStart++;
+            }
+            cleaned.append(TABS.matcher(text.substring(chunkStart, chunkEnd)).replaceAll(" "));
         }
     }
 
@@ -90,15 +213,55 @@ public class StringUtil {
      * HTML → 텍스트로 변환 후 클린업
      */
     public static String cleanHtmlText(String html) {
-        if (html == null) return "";
+        return cleanHtmlText(html, Deadline.none());
+    }
 
+    /**
+     * HTML → 텍스트로 변환 후 클린업 (제한 시간 적용)
+     * - HTML 파서가 입력 버퍼를 채울 때마다 deadline 확인
+     *
+     * @throws DeadlineExceededException 제한 시간 초과 또는 취소 시
+     */
+    public static String cleanHtmlText(String html, Deadline deadline) {
+        Objects.requireNonNull(deadline, "deadline");
+        long start = UtilMetrics.start();
         try {
-            html = html.replaceAll("(?i)<br\\s*/?>", "\n");
-            String stripped = Jsoup.parse(html).text();
-            return cleanText(stripped);
+            if (html == null) return "";
+
+            deadline.check();
+            html = BR_TAG.matcher(html).replaceAll("\n");
+            deadline.check();
+            Document doc = Parser.htmlParser().parseInput(new DeadlineReader(new StringReader(html), deadline), "");
+            deadline.check();
+            String stripped = doc.text();
+            return clean(stripped, deadline);
+        } catch (DeadlineExceededException e) {
+            CLEAN_HTML_TEXT.error();
+            throw e;
         } catch (Exception e) {
+            CLEAN_HTML_TEXT.error();
+            // 파서가 Reader 예외를 감싸서 던지는 경우
+            if (deadline.isExpired()) throw new DeadlineExceededException("HTML 클린업 제한 시간 초과", e);
             logger.warn("HTML 클린업 실패", e);
             return html;
+        } finally {
+            CLEAN_HTML_TEXT.stop(start);
+        }
+    }
+
+    /** 읽기마다 deadline 을 확인하는 Reader */
+    private static final class DeadlineReader extends FilterReader {
+        private final Deadline deadline;
+
+        DeadlineReader(Reader in, Deadline deadline) {
+            super(in);
+            this.deadline = deadline;
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            deadline.check();
+            return super.read(cbuf, off, len);
         }
     }
 
@@ -108,27 +271,35 @@ public class StringUtil {
 
     /** 바이트 배열이 Base64 가능성 있는지 확인 */
     public static boolean looksLikeBase64(byte[] data) {
-        if (data == null || data.length == 0) return false;
+        long start = UtilMetrics.start();
         try {
+            if (data == null || data.length == 0) return false;
             String s = new String(data, StandardCharsets.US_ASCII);
             return s.replaceAll("\\r|\\n", "").matches("^[A-Za-z0-9+/=]+$");
         } catch (Exception e) {
+            LOOKS_LIKE_BASE64.error();
             logger.warn("Base64 검사 실패", e);
             return false;
+        } finally {
+            LOOKS_LIKE_BASE64.stop(start);
         }
     }
 
     /** 문자열 → 32비트 Murmur3 해시(hex) */
     public static String getMurmurHashHex(String text) {
-        if (text == null) return "";
+        long start = UtilMetrics.start();
         try {
+            if (text == null) return "";
             int hash = Hashing.murmur3_32_fixed()
                     .hashString(text, StandardCharsets.UTF_8)
                     .asInt();
             return String.format("%08x", hash);
         } catch (Exception e) {
+            GET_MURMUR_HASH_HEX.error();
             logger.warn("MurmurHash 계산 실패", e);
             return "";
+        } finally {
+            GET_MURMUR_HASH_HEX.stop(start);
         }
     }
 
@@ -138,6 +309,19 @@ public class StringUtil {
 
     /** 파일 확장자 추출 (예: "pdf", "docx") */
     public static String getFileExtension(String fileName) {
+        long start = UtilMetrics.start();
+        try {
+            return fileExtension(fileName);
+        } catch (RuntimeException e) {
+            GET_FILE_EXTENSION.error();
+            throw e;
+        } finally {
+            GET_FILE_EXTENSION.stop(start);
+        }
+    }
+
+    // 내부 호출용 (지표 미기록)
+    static String fileExtension(String fileName) {
         if (fileName == null) return "";
         int lastDot = fileName.lastIndexOf('.');
         if (lastDot > 0 && lastDot < fileName.length() - 1) {
@@ -152,17 +336,25 @@ public class StringUtil {
      * - 예약어(CON, PRN 등) 처리
      */
     public static String sanitizeFileName(String name) {
-        if (name == null) return null;
+        long start = UtilMetrics.start();
+        try {
+            if (name == null) return null;
 
-        String cleaned = name.replaceAll("[\\\\/:*?\"<>|]", "_");
-        String upper = cleaned.toUpperCase();
-        if (upper.matches("CON|PRN|AUX|NUL|COM[1-9]|LPT[1-9]")) {
-            cleaned = "_" + cleaned;
-        }
+            String cleaned = name.replaceAll("[\\\\/:*?\"<>|]", "_");
+            String upper = cleaned.toUpperCase();
+            if (upper.matches("CON|PRN|AUX|NUL|COM[1-9]|LPT[1-9]")) {
+                cleaned = "_" + cleaned;
+            }
 
-        if (cleaned.length() > 240) cleaned = cleaned.substring(0, 240);
+            if (cleaned.length() > 240) cleaned = cleaned.substring(0, 240);
 
-        return cleaned.trim().replaceAll("[\\p{Cntrl}]", "");
+            return cleaned.trim().replaceAll("[\\p{Cntrl}]", "");
+        } catch (RuntimeException e) {
+            SANITIZE_FILE_NAME.error();
+            throw e;
+        } finally {
+            SANITIZE_FILE_NAME.stop(start);
+        }
     }
     
     
@@ -4,6 +4,7 @@ import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.UUID;
 
@@ -11,14 +12,24 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.onesoft.common.constant.FileConstants;
+import com.onesoft.common.metrics.OperationMetrics;
+import com.onesoft.common.metrics.UtilMetrics;
 
 public class UUIDUtil {
 	private static final Logger logger = LoggerFactory.getLogger(UUIDUtil.class);
 
+    // 메서드별 지표 (-Donesoft.common.metrics.enabled=true 일 때만 수집)
+    private static final OperationMetrics FILE_UUID = UtilMetrics.operation(UUIDUtil.class, "fileUUID");
+    private static final OperationMetrics GENERATE_UNIQUE_ID = UtilMetrics.operation(UUIDUtil.class, "generateUniqueId");
+    private static final OperationMetrics GET_ROOT_PARENT_UNIQUE_ID = UtilMetrics.operation(UUIDUtil.class, "getRootParentUniqueId");
+    private static final OperationMetrics GET_PARENT_UNIQUE_ID = UtilMetrics.operation(UUIDUtil.class, "getParentUniqueId");
+    private static final OperationMetrics SHORT_UUID = UtilMetrics.operation(UUIDUtil.class, "shortUUID");
+
     /**
      * SHA-256 기반 짧은 UUID
      */
     public static String fileUUID(String filePath) {
+        long start = UtilMetrics.start();
         try {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             byte[] hash = digest.digest(filePath.getBytes(StandardCharsets.UTF_8));
@@ -28,7 +39,10 @@ public class UUIDUtil {
                     .encodeToString(hash)
                     .substring(0, 22); // 22자
         } catch (Exception e) {
+            FILE_UUID.error();
             throw new RuntimeException(e);
+        } finally {
+            FILE_UUID.stop(start);
         }
     }
     
@@ -47,31 +61,40 @@ public class UUIDUtil {
      * @return 22자리 고유 ID, 문제 발생 시 null 반환
      */
     public static String generateUniqueId(File file) {
+        long start = UtilMetrics.start();
         try {
             if (file == null) {
                 logger.error("파일 객체가 null입니다.");
                 return null;
             }
 
-            // 존재하지 않아도 경로 문자열 기준으로 ID 생성 가능
-            String filePath = file.getAbsolutePath();
-
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(filePath.getBytes(StandardCharsets.UTF_8));
-
-            // Base64 URL-safe + padding 제거
-            String encoded = Base64.getUrlEncoder()
-                    .withoutPadding()
-                    .encodeToString(hash);
-
-            // 22자리만 사용 (고유 ID 목적)
-            return encoded.length() >= 22 ? encoded.substring(0, 22) : encoded;
+            return uniqueId(file);
 
         } catch (Exception e) {
+            GENERATE_UNIQUE_ID.error();
             logger.error("고유 ID 생성 중 예외 발생: {}", file, e);
             return null;
+        } finally {
+            GENERATE_UNIQUE_ID.stop(start);
         }
     }
+
+    // 내부 호출용 (지표 미기록)
+    private static String uniqueId(File file) throws NoSuchAlgorithmException {
+        // 존재하지 않아도 경로 문자열 기준으로 ID 생성 가능
+        String filePath = file.getAbsolutePath();
+
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] hash = digest.digest(filePath.getBytes(StandardCharsets.UTF_8));
+
+        // Base64 URL-safe + padding 제거
+        String encoded = Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(hash);
+
+        // 22자리만 사용 (고유 ID 목적)
+        return encoded.length() >= 22 ? encoded.substring(0, 22) : encoded;
+    }
     
 
     /**
@@ -91,7 +114,7 @@ public class UUIDUtil {
      * @return parent uniqueId 또는 null
      */
     public static String getRootParentUniqueId(File file) {
-
+        long start = UtilMetrics.start();
         try {
             if (file == null) {
                 logger.error("파일 객체가 null입니다.");
@@ -119,11 +142,14 @@ public class UUIDUtil {
 
             File originalFile = new File(originalFilePath);
 
-            return generateUniqueId(originalFile);
+            return uniqueId(originalFile);
 
         } catch (Exception e) {
+            GET_ROOT_PARENT_UNIQUE_ID.error();
             logger.error("root parentUniqueId 계산 중 예외 발생: {}", file, e);
             return null;
+        } finally {
+            GET_ROOT_PARENT_UNIQUE_ID.stop(start);
         }
     }
     
@@ -139,7 +165,7 @@ public class UUIDUtil {
      * 조건에 맞지 않으면 null 반환
      */
     public static String getParentUniqueId(File file) {
-
+        long start = UtilMetrics.start();
         try {
             if (file == null) {
                 logger.error("파일 객체가 null입니다.");
@@ -165,11 +191,14 @@ public class UUIDUtil {
 
             File originalFile = new File(originalFilePath);
 
-            return generateUniqueId(originalFile);
+            return uniqueId(originalFile);
 
         } catch (Exception e) {
+            GET_PARENT_UNIQUE_ID.error();
             logger.error("직계 parentUniqueId 계산 중 예외 발생: {}", file, e);
             return null;
+        } finally {
+            GET_PARENT_UNIQUE_ID.stop(start);
         }
     }
 
@@ -177,10 +206,18 @@ public class UUIDUtil {
      * 랜덤 UUID를 22자로 압축
      */
     public static String shortUUID() {
-        UUID uuid = UUID.randomUUID();
-        ByteBuffer bb = ByteBuffer.wrap(new byte[16]);
-        bb.putLong(uuid.getMostSignificantBits());
-        bb.putLong(uuid.getLeastSignificantBits());
-        return Base64.getUrlEncoder().withoutPadding().encodeToString(bb.array());
+        long start = UtilMetrics.start();
+        try {
+            UUID uuid = UUID.randomUUID();
+            ByteBuffer bb = ByteBuffer.wrap(new byte[16]);
+            bb.putLong(uuid.getMostSignificantBits());
+            bb.putLong(uuid.getLeastSignificantBits());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bb.array());
+        } catch (RuntimeException e) {
+            SHORT_UUID.error();
+            throw e;
+        } finally {
+            SHORT_UUID.stop(start);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.onesoft.common.validation;
+
+import java.util.BitSet;
+
+/**
+ * 컬럼 배열 단위 일괄 검증
+ *
+ * <p>
+ * 같은 행 수를 가진 컬럼 배열마다 규칙을 적용하고, 하나라도 실패한 행의 비트를 기록합니다.
+ * 이미 실패한 행은 이후 컬럼에서 검사하지 않습니다.
+ * </p>
+ *
+ * @see Validator#columns(int)
+ */
+public final class ColumnValidator {
+
+    private final int rows;
+    private final BitSet failures;
+
+    ColumnValidator(int rows, BitSet failures) {
+        this.rows = rows;
+        this.failures = failures;
+    }
+
+    public ColumnValidator check(int[] column, IntRule rule) {
+        requireRows(column.length);
+        for (int i = 0; i < rows; i++) {
+            if (!failures.get(i) && !rule.test(column[i])) failures.set(i);
+        }
+        return this;
+    }
+
+    public ColumnValidator check(long[] column, LongRule rule) {
+        requireRows(column.length);
+        for (int i = 0; i < rows; i++) {
+            if (!failures.get(i) && !rule.test(column[i])) failures.set(i);
+        }
+        return this;
+    }
+
+    public ColumnValidator check(double[] column, DoubleRule rule) {
+        requireRows(column.length);
+        for (int i = 0; i < rows; i++) {
+            if (!failures.get(i) && !rule.test(column[i])) failures.set(i);
+        }
+        return this;
+    }
+
+    public ColumnValidator check(CharSequence[] column, TextRule rule) {
+        requireRows(column.length);
+        for (int i = 0; i < rows; i++) {
+            if (!failures.get(i) && !rule.test(column[i])) failures.set(i);
+        }
+        return this;
+    }
+
+    /** 실패한 행 인덱스 */
+    public BitSet failures() {
+        return failures;
+    }
+
+    /** 모든 행이 통과했는지 여부 */
+    public boolean isValid() {
+        return failures.isEmpty();
+    }
+
+    private void requireRows(int length) {
+        if (length != rows) {
+            throw new IllegalArgumentException("컬럼 길이(" + length + ")가 행 수(" + rows + ")와 다릅니다.");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.onesoft.common.validation;
+
+import java.util.BitSet;
+
+/**
+ * int 값 검증 규칙 (박싱 없음)
+ *
+ * @see Validator#intRange(int, int)
+ */
+@FunctionalInterface
+public interface IntRule {
+
+    boolean test(int value);
+
+    /** 두 규칙을 모두 만족해야 통과 (범위끼리는 하나의 범위로 합쳐짐) */
+    default IntRule and(IntRule other) {
+        return Validator.andInt(this, other);
+    }
+
+    /** 일괄 검증, 실패한 인덱스의 비트가 설정된 BitSet 반환 */
+    default BitSet validate(int[] values) {
+        BitSet failures = new BitSet(values.length);
+        validate(values, failures);
+        return failures;
+    }
+
+    /** 일괄 검증, failures 를 비우고 실패 인덱스를 기록 (재사용 시 할당 없음) */
+    default void validate(int[] values, BitSet failures) {
+        failures.clear();
+        for (int i = 0; i < values.length; i++) {
+            if (!test(values[i])) failures.set(i);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.onesoft.common.validation;
+
+import java.util.BitSet;
+
+/**
+ * 문자열(CharSequence) 검증 규칙
+ * - null 은 모든 내장 규칙에서 실패로 처리
+ *
+ * @see Validator#length(int, int)
+ * @see Validator#matches(String)
+ * @see Validator#extension(String...)
+ */
+@FunctionalInterface
+public interface TextRule {
+
+    boolean test(CharSequence value);
+
+    /** 두 규칙을 모두 만족해야 통과 (길이 조건끼리는 하나로 합쳐짐) */
+    default TextRule and(TextRule other) {
+        return Validator.andText(this, other);
+    }
+
+    /** 일괄 검증, 실패한 인덱스의 비트가 설정된 BitSet 반환 */
+    default BitSet validate(CharSequence[] values) {
+        BitSet failures = new BitSet(values.length);
+        validate(values, failures);
+        return failures;
+    }
+
+    /** 일괄 검증, failures 를 비우고 실패 인덱스를 기록 (재사용 시 할당 없음) */
+    default void validate(CharSequence[] values, BitSet failures) {
+        failures.clear();
+        for (int i = 0; i < values.length; i++) {
+            if (!test(values[i])) failures.set(i);
+        }
+    }
+}
@@ -1,8 +1,269 @@
 package com.onesoft.common.validation;
 
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 값 검증 유틸리티
+ *
+ * <p>
+ * 규칙은 한 번 만들어 재사용하며, int / long / double / CharSequence 전용 규칙이라
+ * 검사 시 박싱이나 객체 할당이 없습니다. 범위/길이 규칙은 {@code and} 로 결합할 때
+ * 하나의 비교로 합쳐집니다.
+ * </p>
+ *
+ * <pre>
+ * IntRule age = Validator.intRange(0, 150);
+ * LongRule size = Validator.fileSize(10 * 1024 * 1024);
+ * TextRule name = Validator.notEmpty().and(Validator.extension("pdf", "docx"));
+ *
+ * BitSet failures = Validator.columns(rows)
+ *         .check(ages, age)
+ *         .check(sizes, size)
+ *         .check(names, name)
+ *         .failures();
+ * </pre>
+ */
 public class Validator {
 
     public static boolean isPositive(int num) {
         return num > 0;
     }
+
+    // ===============================
+    // 숫자 규칙
+    // ===============================
+    // 규칙 팩토리는 min > max 를 거부 (빈 범위는 and 결합에서만 생김)
+
+    /** min 이상 max 이하 */
+    public static IntRule intRange(int min, int max) {
+        if (min > max) throw invalidRange(min, max);
+        return new IntRange(min, max);
+    }
+
+    /** min 이상 max 이하 */
+    public static LongRule longRange(long min, long max) {
+        if (min > max) throw invalidRange(min, max);
+        return new LongRange(min, max);
+    }
+
+    /** min 이상 max 이하 (NaN 은 실패, 경계값으로 NaN 은 불가) */
+    public static DoubleRule doubleRange(double min, double max) {
+        if (!(min <= max)) throw invalidRange(min, max);
+        return new DoubleRange(min, max);
+    }
+
+    /** 파일 크기: 0 이상 maxBytes 이하 */
+    public static LongRule fileSize(long maxBytes) {
+        return fileSize(0, maxBytes);
+    }
+
+    /** 파일 크기: minBytes 이상 maxBytes 이하 */
+    public static LongRule fileSize(long minBytes, long maxBytes) {
+        return longRange(Math.max(0, minBytes), maxBytes);
+    }
+
+    // ===============================
+    // 문자열 규칙
+    // ===============================
+
+    /** null 이 아니고 길이가 1 이상 */
+    public static TextRule notEmpty() {
+        return new Length(1, Integer.MAX_VALUE);
+    }
+
+    /** null 이 아니고 길이가 min 이상 max 이하 */
+    public static TextRule length(int min, int max) {
+        if (min > max) throw invalidRange(min, max);
+        return new Length(min, max);
+    }
+
+    /** 정규식 전체 일치 */
+    public static TextRule matches(String regex) {
+        return matches(Pattern.compile(regex));
+    }
+
+    /** 정규식 전체 일치 (스레드별 Matcher 재사용) */
+    public static TextRule matches(Pattern pattern) {
+        ThreadLocal<Matcher> matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+        return value -> {
+            if (value == null) return false;
+            Matcher matcher = matchers.get().reset(value);
+            boolean result = matcher.matches();
+            matcher.reset(""); // 검사한 문자열 참조 해제
+            return result;
+        };
+    }
+
+    /**
+     * 파일 확장자 허용 목록 (대소문자 무시, 로케일 무관)
+     * - 마지막 '.' 뒤의 문자열을 확장자로 판정
+     * - 허용 목록은 "pdf", ".pdf" 모두 가능
+     *
+     * @throws IllegalArgumentException 빈 값이나 "tar.gz" 처럼 '.' 이 들어간 항목
+     */
+    public static TextRule extension(String... allowed) {
+        String[] extensions = new String[allowed.length];
+        for (int i = 0; i < allowed.length; i++) {
+            String ext = allowed[i] != null && allowed[i].startsWith(".") ? allowed[i].substring(1) : allowed[i];
+            if (ext == null || ext.isEmpty() || ext.indexOf('.') >= 0) {
+                throw new IllegalArgumentException("허용할 수 없는 확장자: " + allowed[i]);
+            }
+            extensions[i] = ext.toLowerCase(Locale.ROOT);
+        }
+        return value -> value != null && hasExtension(value, extensions);
+    }
+
+    // ===============================
+    // 일괄 검증
+    // ===============================
+
+    /** 행 수가 rows 인 컬럼 배열들을 검증 */
+    public static ColumnValidator columns(int rows) {
+        return new ColumnValidator(rows, new BitSet(rows));
+    }
+
+    /** 행 수가 rows 인 컬럼 배열들을 검증 (failures 를 비우고 재사용) */
+    public static ColumnValidator columns(int rows, BitSet failures) {
+        failures.clear();
+        return new ColumnValidator(rows, failures);
+    }
+
+    // ===============================
+    // 규칙 결합
+    // ===============================
+
+    static IntRule andInt(IntRule a, IntRule b) {
+        if (a instanceof IntRange && b instanceof IntRange) {
+            IntRange x = (IntRange) a;
+            IntRange y = (IntRange) b;
+            return new IntRange(Math.max(x.min, y.min), Math.min(x.max, y.max));
+        }
+        return value -> a.test(value) && b.test(value);
+    }
+
+    static LongRule andLong(LongRule a, LongRule b) {
+        if (a instanceof LongRange && b instanceof LongRange) {
+            LongRange x = (LongRange) a;
+            LongRange y = (LongRange) b;
+            return new LongRange(Math.max(x.min, y.min), Math.min(x.max, y.max));
+        }
+        return value -> a.test(value) && b.test(value);
+    }
+
+    static DoubleRule andDouble(DoubleRule a, DoubleRule b) {
+        if (a instanceof DoubleRange && b instanceof DoubleRange) {
+            DoubleRange x = (DoubleRange) a;
+            DoubleRange y = (DoubleRange) b;
+            return new DoubleRange(Math.max(x.min, y.min), Math.min(x.max, y.max));
+        }
+        return value -> a.test(value) && b.test(value);
+    }
+
+    static TextRule andText(TextRule a, TextRule b) {
+        if (a instanceof Length && b instanceof Length) {
+            Length x = (Length) a;
+            Length y = (Length) b;
+            return new Length(Math.max(x.min, y.min), Math.min(x.max, y.max));
+        }
+        // 길이 조건을 먼저 검사 (저렴한 규칙 우선)
+        if (b instanceof Length && !(a instanceof Length)) {
+            return value -> b.test(value) && a.test(value);
+        }
+        return value -> a.test(value) && b.test(value);
+    }
+
+    private static IllegalArgumentException invalidRange(Object min, Object max) {
+        return new IllegalArgumentException("min(" + min + ")이 max(" + max + ")보다 큽니다.");
+    }
+
+    // extensions 는 Locale.ROOT 소문자, 파일명은 문자 단위 소문자 변환으로 비교 (기본 로케일 무관)
+    private static boolean hasExtension(CharSequence name, String[] extensions) {
+        int length = name.length();
+        int lastDot = -1;
+        for (int i = length - 1; i >= 0; i--) {
+            if (name.charAt(i) == '.') {
+                lastDot = i;
+                break;
+            }
+        }
+        if (lastDot <= 0 || lastDot >= length - 1) return false;
+
+        int extLength = length - lastDot - 1;
+        outer:
+        for (String ext : extensions) {
+            if (ext.length() != extLength) continue;
+            for (int i = 0; i < extLength; i++) {
+                if (Character.toLowerCase(name.charAt(lastDot + 1 + i)) != ext.charAt(i)) continue outer;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    // ===============================
+    // 규칙 구현
+    // ===============================
+
+    private static final class IntRange implements IntRule {
+        final int min;
+        final int max;
+
+        IntRange(int min, int max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean test(int value) {
+            return value >= min && value <= max;
+        }
+    }
+
+    private static final class LongRange implements LongRule {
+        final long min;
+        final long max;
+
+        LongRange(long min, long max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean test(long value) {
+            return value >= min && value <= max;
+        }
+    }
+
+    private static final class DoubleRange implements DoubleRule {
+        final double min;
+        final double max;
+
+        DoubleRange(double min, double max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean test(double value) {
+            return value >= min && value <= max; // NaN 은 항상 false
+        }
+    }
+
+    private static final class Length implements TextRule {
+        final int min;
+        final int max;
+
+        Length(int min, int max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean test(CharSequence value) {
+            return value != null && value.length() >= min && value.length() <= max;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.onesoft.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import com.onesoft.common.util.StringUtil;
+
+class OperationMetricsTest {
+
+    @Test
+    void testRecordAndPercentiles() {
+        OperationMetrics metrics = new OperationMetrics("Test.op");
+        for (int i = 1; i <= 1000; i++) metrics.recordCall(i * 1_000L); // 1us ~ 1ms
+        metrics.recordError();
+        metrics.recordBytesRead(512);
+
+        assertEquals(1000, metrics.getCalls());
+        assertEquals(1, metrics.getErrors());
+        assertEquals(512, metrics.getBytesRead());
+        assertEquals(1000.0, metrics.getMaxMicros());
+        assertEquals(500.0, metrics.getP50Micros(), 500.0 * 0.25);
+        assertEquals(990.0, metrics.getP99Micros(), 990.0 * 0.25);
+
+        metrics.reset();
+        assertEquals(0, metrics.getCalls());
+        assertEquals(0.0, metrics.getP99Micros());
+    }
+
+    @Test
+    void testBucketIndexMonotonic() {
+        int previous = -1;
+        for (long nanos = 0; nanos < 1 << 20; nanos++) {
+            int index = OperationMetrics.bucketIndex(nanos);
+            assertTrue(index >= previous);
+            previous = index;
+        }
+        assertTrue(OperationMetrics.bucketIndex(Long.MAX_VALUE) >= previous);
+    }
+
+    @Test
+    void testSink() {
+        AtomicLong calls = new AtomicLong();
+        MetricsSink sink = (operation, elapsedNanos) -> calls.incrementAndGet();
+        UtilMetrics.addSink(sink);
+        try {
+            new OperationMetrics("Test.sink").recordCall(100);
+            assertEquals(1, calls.get());
+        } finally {
+            UtilMetrics.removeSink(sink);
+        }
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        assumeFalse(UtilMetrics.ENABLED, "지표 활성 실행은 UtilMetricsEnabledTest 에서 검증");
+        StringUtil.isEmpty("abc");
+        assertTrue(UtilMetrics.getOperations().isEmpty());
+
+        OperationMetrics metrics = UtilMetrics.operation(StringUtil.class, "isEmpty");
+        assertSame(metrics, UtilMetrics.operation(OperationMetricsTest.class, "other"));
+        assertEquals(0, metrics.getCalls());
+    }
+}
@@ -0,0 +1,125 @@
+package com.onesoft.common.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.onesoft.common.util.FileUtil;
+import com.onesoft.common.util.PdfInspector;
+import com.onesoft.common.util.StringUtil;
+import com.onesoft.common.util.UUIDUtil;
+
+/**
+ * -Donesoft.common.metrics.enabled=true 로 실행 (pom.xml 의 metrics-enabled 실행)
+ */
+class UtilMetricsEnabledTest {
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    static void requireEnabled() {
+        assumeTrue(UtilMetrics.ENABLED, "-Donesoft.common.metrics.enabled=true 필요");
+    }
+
+    @BeforeEach
+    void reset() {
+        UtilMetrics.resetAll();
+    }
+
+    @Test
+    void testStringUtilCountsOncePerPublicCall() throws Exception {
+        StringUtil.isNotEmpty("a");
+        StringUtil.sanitizeEmailAddress("a@b.com");
+        StringUtil.cleanHtmlText("<p>a<br/>b</p>");
+
+        assertEquals(1, operation("StringUtil.isNotEmpty").getCalls());
+        assertEquals(1, operation("StringUtil.sanitizeEmailAddress").getCalls());
+        assertEquals(1, operation("StringUtil.cleanHtmlText").getCalls());
+        // 내부 호출은 기록하지 않음
+        assertEquals(0, operation("StringUtil.isEmpty").getCalls());
+        assertEquals(0, operation("StringUtil.cleanText").getCalls());
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("com.onesoft.common:type=UtilMetrics,class=StringUtil,operation=cleanHtmlText");
+        assertTrue(server.isRegistered(name));
+        assertEquals(1L, server.getAttribute(name, "Calls"));
+    }
+
+    @Test
+    void testFileUtilErrorsAndBytes() throws IOException {
+        File text = write("note.txt", "not an office or pdf file");
+        File zip = write("broken.zip", "PK\u0003\u0004broken");
+
+        assertFalse(FileUtil.isOfficeFileEncrypted(text));
+        assertFalse(FileUtil.hasEmptyZipEntry(zip));
+        assertFalse(FileUtil.isPdfFileEncrypted(text));
+
+        OperationMetrics office = operation("FileUtil.isOfficeFileEncrypted");
+        assertEquals(1, office.getCalls());
+        assertEquals(1, office.getErrors());
+        assertEquals(8, office.getBytesRead()); // OLE2 헤더
+
+        OperationMetrics emptyEntry = operation("FileUtil.hasEmptyZipEntry");
+        assertEquals(1, emptyEntry.getCalls());
+        assertEquals(1, emptyEntry.getErrors());
+        assertEquals(4, emptyEntry.getBytesRead()); // ZIP 헤더
+
+        OperationMetrics pdf = operation("FileUtil.isPdfFileEncrypted");
+        assertEquals(1, pdf.getCalls());
+        assertEquals(1, pdf.getErrors());
+        assertEquals(text.length(), pdf.getBytesRead());
+
+        assertEquals(0, operation("FileUtil.isOLE2File").getCalls());
+        assertEquals(0, operation("FileUtil.isZipFile").getCalls());
+    }
+
+    @Test
+    void testInternalCallsNotCounted() throws IOException {
+        write("a.pdf", "%PDF-1.4\n");
+        PdfInspector.inspectDirectory(dir.toFile(), 1);
+        assertEquals(0, operation("StringUtil.getFileExtension").getCalls());
+
+        assertNotNull(UUIDUtil.getParentUniqueId(new File(dir.toFile(), "a.zip_unpacked/b.txt")));
+        assertEquals(1, operation("UUIDUtil.getParentUniqueId").getCalls());
+        assertEquals(0, operation("UUIDUtil.generateUniqueId").getCalls());
+    }
+
+    @Test
+    void testSinkReceivesOnlyPublicCalls() {
+        List<String> calls = new CopyOnWriteArrayList<>();
+        MetricsSink sink = (operation, elapsedNanos) -> calls.add(operation);
+        UtilMetrics.addSink(sink);
+        try {
+            StringUtil.isNotEmpty("a");
+        } finally {
+            UtilMetrics.removeSink(sink);
+        }
+        assertEquals(List.of("StringUtil.isNotEmpty"), calls);
+    }
+
+    private static OperationMetrics operation(String name) {
+        OperationMetrics metrics = UtilMetrics.getOperations().get(name);
+        assertNotNull(metrics, name);
+        return metrics;
+    }
+
+    private File write(String name, String content) throws IOException {
+        return Files.writeString(dir.resolve(name), content, StandardCharsets.ISO_8859_1).toFile();
+    }
+}
@@ -0,0 +1,93 @@
+package com.onesoft.common.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+import static org.junit.jupiter.api.Assertions.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+class FileUtilTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testIsOfficeFileEncrypted() throws IOException {
+        File file = writeWorkbook("plain.xlsx");
+        assertFalse(FileUtil.isOfficeFileEncrypted(file));
+        assertFalse(FileUtil.isOfficeFileEncrypted(file, Deadline.afterMillis(60_000)));
+    }
+
+    @Test
+    void testIsOfficeFileEncryptedCancelled() throws IOException {
+        File file = writeWorkbook("cancel.xlsx");
+
+        Deadline cancelled = Deadline.afterMillis(60_000);
+        cancelled.cancel();
+        assertThrows(DeadlineExceededException.class, () -> FileUtil.isOfficeFileEncrypted(file, cancelled));
+
+        // 시작 확인은 통과하고 패키지를 연 뒤 만료
+        AtomicLong clock = new AtomicLong();
+        Deadline partway = new Deadline(clock::getAndIncrement, 2, false);
+        assertThrows(DeadlineExceededException.class, () -> FileUtil.isOfficeFileEncrypted(file, partway));
+        assertEquals(3, clock.get());
+
+        assertThrows(NullPointerException.class, () -> FileUtil.isOfficeFileEncrypted(file, null));
+    }
+
+    @Test
+    void testIsOfficeFileEncryptedLargeWorkbook() throws IOException {
+        File file = dir.resolve("large.xlsx").toFile();
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(); OutputStream out = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+            for (int i = 0; i < 100_000; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue("row " + i);
+                row.createCell(1).setCellValue(i);
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+
+        Logger logger = (Logger) LoggerFactory.getLogger(FileUtil.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            assertFalse(FileUtil.isOfficeFileEncrypted(file));
+            assertFalse(FileUtil.isOfficeFileEncrypted(file, Deadline.afterMillis(60_000)));
+        } finally {
+            logger.detachAppender(appender);
+        }
+        assertTrue(appender.list.stream().noneMatch(e -> e.getLevel().isGreaterOrEqual(Level.WARN)));
+    }
+
+    private File writeWorkbook(String name) throws IOException {
+        File file = dir.resolve(name).toFile();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+            for (int i = 0; i < 2_000; i++) {
+                Row row = sheet.createRow(i);
+                row.createCell(0).setCellValue("row " + i);
+                row.createCell(1).setCellValue(i);
+            }
+            workbook.write(out);
+        }
+        return file;
+    }
+}
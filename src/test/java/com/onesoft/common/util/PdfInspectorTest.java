@@ -0,0 +1,261 @@
+package com.onesoft.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PdfInspectorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testInspectXrefTable() throws IOException {
+        File file = writeTablePdf("plain.pdf", false);
+
+        PdfInspector.PdfInfo info = PdfInspector.inspect(file);
+        assertNotNull(info);
+        assertEquals("1.4", info.getVersion());
+        assertFalse(info.isEncrypted());
+        assertFalse(info.isLinearized());
+        assertEquals(3, info.getPageCount());
+    }
+
+    @Test
+    void testInspectEncrypted() throws IOException {
+        File file = writeTablePdf("encrypted.pdf", true);
+
+        assertTrue(PdfInspector.inspect(file).isEncrypted());
+        assertTrue(FileUtil.isPdfFileEncrypted(file));
+    }
+
+    @Test
+    void testInspectXrefStreamWithObjectStream() throws IOException {
+        File file = writeStreamPdf("stream.pdf");
+
+        PdfInspector.PdfInfo info = PdfInspector.inspect(file);
+        assertNotNull(info);
+        assertEquals("1.5", info.getVersion());
+        assertFalse(info.isEncrypted());
+        assertEquals(5, info.getPageCount());
+    }
+
+    @Test
+    void testEncryptKeptWhenPrevXrefIsCorrupt() throws IOException {
+        // 최신 trailer 에 /Encrypt, /Prev 의 xref 스트림은 /Columns -2 로 손상
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, "%PDF-1.5\n");
+        long prevOffset = out.size();
+        byte[] compressed = deflate(new byte[] {2, 1, 0, 0, 0});
+        write(out, "3 0 obj\n<< /Type /XRef /Size 3 /W [1 2 1] /Root 1 0 R /Filter /FlateDecode"
+                + " /DecodeParms << /Predictor 12 /Columns -2 >> /Length " + compressed.length + " >>\nstream\n");
+        out.write(compressed);
+        write(out, "\nendstream\nendobj\n");
+        long encryptOffset = out.size();
+        write(out, "4 0 obj\n<< /Filter /Standard /V 1 >>\nendobj\n");
+        long xrefOffset = out.size();
+        write(out, "xref\n0 1\n0000000000 65535 f \n4 1\n" + String.format("%010d 00000 n \n", encryptOffset));
+        write(out, "trailer\n<< /Size 5 /Root 1 0 R /Encrypt 4 0 R /Prev " + prevOffset + " >>\n");
+        write(out, "startxref\n" + xrefOffset + "\n%%EOF\n");
+        File file = writeFile("corrupt-prev.pdf", out);
+
+        PdfInspector.PdfInfo info = PdfInspector.inspect(file);
+        assertNotNull(info);
+        assertTrue(info.isEncrypted());
+        assertEquals(-1, info.getPageCount());
+        assertTrue(FileUtil.isPdfFileEncrypted(file));
+    }
+
+    @Test
+    void testInspectHybridXrefStm() throws IOException {
+        // xref 테이블에는 0번만, catalog/pages 는 /XRefStm 에만 존재
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, "%PDF-1.5\n");
+        long catalogOffset = out.size();
+        write(out, "1 0 obj\n<< /Type /Catalog /Pages 2 0 R >>\nendobj\n");
+        long pagesOffset = out.size();
+        write(out, "2 0 obj\n<< /Type /Pages /Kids [] /Count 7 >>\nendobj\n");
+        long stmOffset = out.size();
+        byte[] rows = {1, (byte) (catalogOffset >> 8), (byte) catalogOffset, 0,
+                1, (byte) (pagesOffset >> 8), (byte) pagesOffset, 0};
+        write(out, "3 0 obj\n<< /Type /XRef /Size 4 /W [1 2 1] /Index [1 2] /Length " + rows.length + " >>\nstream\n");
+        out.write(rows);
+        write(out, "\nendstream\nendobj\n");
+        long xrefOffset = out.size();
+        write(out, "xref\n0 1\n0000000000 65535 f \n");
+        write(out, "trailer\n<< /Size 4 /Root 1 0 R /XRefStm " + stmOffset + " >>\n");
+        write(out, "startxref\n" + xrefOffset + "\n%%EOF\n");
+        File file = writeFile("hybrid.pdf", out);
+
+        PdfInspector.PdfInfo info = PdfInspector.inspect(file);
+        assertNotNull(info);
+        assertFalse(info.isEncrypted());
+        assertEquals(7, info.getPageCount());
+    }
+
+    @Test
+    void testInspectLinearizedFallback() throws IOException {
+        // startxref 없음 → catalog 를 찾을 수 없으므로 선형화 사전의 /N 사용
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, "%PDF-1.6\n%\u00e2\u00e3\n1 0 obj\n<< /Linearized 1 /L 200 /N 9 /T 100 >>\nendobj\n");
+        write(out, "2 0 obj\n<< /Type /Catalog >>\nendobj\n%%EOF\n");
+        File file = writeFile("linearized.pdf", out);
+
+        PdfInspector.PdfInfo info = PdfInspector.inspect(file);
+        assertNotNull(info);
+        assertEquals("1.6", info.getVersion());
+        assertTrue(info.isLinearized());
+        assertEquals(9, info.getPageCount());
+        assertFalse(info.isEncrypted());
+    }
+
+    @Test
+    void testInspectCorruptTailEncrypt() throws IOException {
+        // startxref offset 이 잘못된 파일 → 끝부분 문자열 검색으로 /Encrypt 확인
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, "%PDF-1.4\n1 0 obj\n<< /Type /Catalog >>\nendobj\n");
+        write(out, "trailer\n<< /Size 2 /Root 1 0 R /Encrypt 5 0 R >>\nstartxref\n999999\n%%EOF\n");
+        File file = writeFile("corrupt-tail.pdf", out);
+
+        PdfInspector.PdfInfo info = PdfInspector.inspect(file);
+        assertNotNull(info);
+        assertTrue(info.isEncrypted());
+        assertEquals(-1, info.getPageCount());
+    }
+
+    @Test
+    void testInspectAllWithExecutor() throws IOException {
+        File a = writeTablePdf("a.pdf", false);
+        File note = tempDir.resolve("note.txt").toFile();
+        Files.write(note.toPath(), "text".getBytes(StandardCharsets.US_ASCII));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Map<File, PdfInspector.PdfInfo> results = PdfInspector.inspectAll(Arrays.asList(a, note), executor);
+            assertEquals(1, results.size());
+            assertTrue(results.containsKey(a));
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInspectNotPdf() throws IOException {
+        File file = tempDir.resolve("note.pdf").toFile();
+        Files.write(file.toPath(), "hello".getBytes(StandardCharsets.US_ASCII));
+
+        assertNull(PdfInspector.inspect(file));
+        assertFalse(FileUtil.isPdfFileEncrypted(file));
+    }
+
+    @Test
+    void testInspectDirectory() throws IOException {
+        writeTablePdf("a.pdf", false);
+        writeTablePdf("b.pdf", true);
+        Files.write(tempDir.resolve("c.txt"), "text".getBytes(StandardCharsets.US_ASCII));
+
+        Map<File, PdfInspector.PdfInfo> results = PdfInspector.inspectDirectory(tempDir.toFile(), 2);
+        assertEquals(2, results.size());
+        assertTrue(results.get(tempDir.resolve("b.pdf").toFile()).isEncrypted());
+    }
+
+    /** 일반 xref 테이블 + 증분 업데이트(/Prev) 구조의 PDF 생성 */
+    private File writeTablePdf(String name, boolean encrypted) throws IOException {
+        StringBuilder sb = new StringBuilder("%PDF-1.4\n%âã\n");
+        long[] offsets = new long[5];
+        offsets[1] = sb.length();
+        sb.append("1 0 obj\n<< /Type /Catalog /Pages 2 0 R >>\nendobj\n");
+        offsets[2] = sb.length();
+        sb.append("2 0 obj\n<< /Type /Pages /Kids [] /Count 1 >>\nendobj\n");
+        long firstXref = sb.length();
+        sb.append("xref\n0 3\n0000000000 65535 f \n");
+        sb.append(String.format("%010d 00000 n \n%010d 00000 n \n", offsets[1], offsets[2]));
+        sb.append("trailer\n<< /Size 3 /Root 1 0 R >>\nstartxref\n").append(firstXref).append("\n%%EOF\n");
+
+        // 증분 업데이트: Pages 객체 교체
+        offsets[2] = sb.length();
+        sb.append("2 0 obj\n<< /Type /Pages /Kids [] /Count 3 >>\nendobj\n");
+        offsets[3] = sb.length();
+        sb.append("3 0 obj\n<< /Filter /Standard /V 1 /O (x\\)y) /U <ABCD> >>\nendobj\n");
+        long secondXref = sb.length();
+        sb.append("xref\n2 2\n");
+        sb.append(String.format("%010d 00000 n \n%010d 00000 n \n", offsets[2], offsets[3]));
+        sb.append("trailer\n<< /Size 4 /Root 1 0 R /Prev ").append(firstXref)
+                .append(encrypted ? " /Encrypt 3 0 R" : "").append(" >>\n");
+        sb.append("startxref\n").append(secondXref).append("\n%%EOF\n");
+
+        File file = tempDir.resolve(name).toFile();
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.ISO_8859_1));
+        return file;
+    }
+
+    /** xref 스트림(FlateDecode + PNG Up predictor) + 객체 스트림 구조의 PDF 생성 */
+    private File writeStreamPdf(String name) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, "%PDF-1.5\n");
+
+        String objects = "<< /Type /Catalog /Pages 2 0 R >> << /Type /Pages /Kids [] /Count 5 >>";
+        String header = "1 0 2 34 ";
+        byte[] objStm = (header + objects).getBytes(StandardCharsets.US_ASCII);
+        long objStmOffset = out.size();
+        write(out, "3 0 obj\n<< /Type /ObjStm /N 2 /First " + header.length()
+                + " /Length " + objStm.length + " >>\nstream\n");
+        out.write(objStm);
+        write(out, "\nendstream\nendobj\n");
+
+        // W [1 2 1], 객체 0~4 (4 = xref 스트림 자신)
+        long xrefOffset = out.size();
+        int[][] rows = {
+                {0, 0, 0}, {2, 3, 0}, {2, 3, 1}, {1, (int) objStmOffset, 0}, {1, (int) xrefOffset, 0}};
+        byte[] raw = new byte[rows.length * 5];
+        byte[] prev = new byte[4];
+        for (int r = 0; r < rows.length; r++) {
+            byte[] row = {(byte) rows[r][0], (byte) (rows[r][1] >> 8), (byte) rows[r][1], (byte) rows[r][2]};
+            raw[r * 5] = 2; // PNG Up
+            for (int i = 0; i < 4; i++) raw[r * 5 + 1 + i] = (byte) (row[i] - prev[i]);
+            prev = row;
+        }
+        byte[] compressed = deflate(raw);
+        write(out, "4 0 obj\n<< /Type /XRef /Size 5 /W [1 2 1] /Root 1 0 R /Filter /FlateDecode"
+                + " /DecodeParms << /Predictor 12 /Columns 4 >> /Length " + compressed.length + " >>\nstream\r\n");
+        out.write(compressed);
+        write(out, "\nendstream\nendobj\nstartxref\n" + xrefOffset + "\n%%EOF\n");
+
+        File file = tempDir.resolve(name).toFile();
+        Files.write(file.toPath(), out.toByteArray());
+        return file;
+    }
+
+    private File writeFile(String name, ByteArrayOutputStream out) throws IOException {
+        File file = tempDir.resolve(name).toFile();
+        Files.write(file.toPath(), out.toByteArray());
+        return file;
+    }
+
+    private static void write(ByteArrayOutputStream out, String s) throws IOException {
+        out.write(s.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(data);
+        deflater.finish();
+        byte[] buffer = new byte[1024];
+        int n = deflater.deflate(buffer);
+        deflater.end();
+        return Arrays.copyOf(buffer, n);
+    }
+}
@@ -1,5 +1,7 @@
 package com.onesoft.common.util;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -11,4 +13,74 @@ class StringUtilTest {
         assertTrue(StringUtil.isEmpty(""));
         assertFalse(StringUtil.isEmpty("abc"));
     }
+
+    @Test
+    void testCleanText() {
+        assertEquals("a b\nc", StringUtil.cleanText("  a\t\tb \n\n---\n \t\n c"));
+        assertEquals("", StringUtil.cleanText(null));
+    }
+
+    @Test
+    void testCleanTextDeadlineExceeded() {
+        Deadline deadline = Deadline.afterMillis(0);
+        assertThrows(DeadlineExceededException.class, () -> StringUtil.cleanText("text", deadline));
+        assertThrows(NullPointerException.class, () -> Deadline.after(null));
+    }
+
+    @Test
+    void testCleanTextExpiresPartway() {
+        // 확인할 때마다 1ns 씩 흐르는 시계: 시작 확인은 통과, 첫 64K 확인에서 만료
+        AtomicLong clock = new AtomicLong();
+        Deadline deadline = new Deadline(clock::getAndIncrement, 2, false);
+        String text = "word\t\ttext\n".repeat(30_000);
+
+        assertThrows(DeadlineExceededException.class, () -> StringUtil.cleanText(text, deadline));
+        assertEquals(3, clock.get());
+        assertTrue(StringUtil.cleanText(text, Deadline.afterMillis(60_000)).startsWith("word text\nword text\n"));
+    }
+
+    @Test
+    void testCleanTextLongLineExpiresPartway() {
+        // 줄바꿈이 없는 긴 줄도 64K 조각마다 확인
+        AtomicLong clock = new AtomicLong();
+        Deadline deadline = new Deadline(clock::getAndIncrement, 2, false);
+        String text = "word\t\ttext ".repeat(30_000);
+
+        assertThrows(DeadlineExceededException.class, () -> StringUtil.cleanText(text, deadline));
+        assertEquals(3, clock.get());
+        assertEquals("word text ".repeat(30_000).trim(), StringUtil.cleanText(text, Deadline.afterMillis(60_000)));
+        assertThrows(NullPointerException.class, () -> StringUtil.cleanText(text, null));
+    }
+
+    @Test
+    void testCleanHtmlTextCancelled() {
+        Deadline deadline = Deadline.afterMillis(60_000);
+        assertEquals("a b", StringUtil.cleanHtmlText("<p>a<br/>b</p>", deadline));
+
+        deadline.cancel();
+        assertThrows(DeadlineExceededException.class, () -> StringUtil.cleanHtmlText("<p>a</p>", deadline));
+        assertThrows(NullPointerException.class, () -> StringUtil.cleanHtmlText("<p>a</p>", null));
+    }
+
+    @Test
+    void testCleanHtmlTextExpiresMidParse() {
+        // 시작 전 두 번의 확인은 통과하고, 파서가 입력을 읽는 도중 만료
+        AtomicLong clock = new AtomicLong();
+        Deadline deadline = new Deadline(clock::getAndIncrement, 4, false);
+        String html = "<div><p>text</p>".repeat(50_000) + "</div>".repeat(50_000);
+
+        DeadlineExceededException e = assertThrows(DeadlineExceededException.class,
+                () -> StringUtil.cleanHtmlText(html, deadline));
+        assertTrue(thrownFromReader(e));
+    }
+
+    private static boolean thrownFromReader(Throwable t) {
+        for (; t != null; t = t.getCause()) {
+            for (StackTraceElement frame : t.getStackTrace()) {
+                if (frame.getClassName().endsWith("$DeadlineReader")) return true;
+            }
+        }
+        return false;
+    }
+
 }
\ No newline at end of file
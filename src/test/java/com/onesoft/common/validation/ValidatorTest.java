@@ -1,5 +1,8 @@
 package com.onesoft.common.validation;
 
+import java.util.BitSet;
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -10,4 +13,74 @@ class ValidatorTest {
         assertTrue(Validator.isPositive(10));
         assertFalse(Validator.isPositive(-1));
     }
+
+    @Test
+    void testRanges() {
+        IntRule rule = Validator.intRange(0, 100).and(Validator.intRange(10, 200));
+        assertFalse(rule.test(5));
+        assertTrue(rule.test(10));
+        assertTrue(rule.test(100));
+        assertFalse(rule.test(101));
+
+        assertTrue(Validator.fileSize(1024).test(1024));
+        assertFalse(Validator.fileSize(1024).test(-1));
+        assertFalse(Validator.doubleRange(0, 1).test(Double.NaN));
+
+        assertThrows(IllegalArgumentException.class, () -> Validator.intRange(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> Validator.longRange(2, 1));
+        assertThrows(IllegalArgumentException.class, () -> Validator.doubleRange(0, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> Validator.length(5, 4));
+        assertThrows(IllegalArgumentException.class, () -> Validator.fileSize(-1));
+
+        // 결합 결과는 빈 범위일 수 있음
+        IntRule disjoint = Validator.intRange(0, 1).and(Validator.intRange(5, 6));
+        assertFalse(disjoint.test(0));
+        assertFalse(disjoint.test(5));
+    }
+
+    @Test
+    void testTextRules() {
+        TextRule rule = Validator.notEmpty().and(Validator.length(0, 8)).and(Validator.matches("[a-z]+\\.[a-z]+"));
+        assertTrue(rule.test("abc.pdf"));
+        assertFalse(rule.test(""));
+        assertFalse(rule.test(null));
+        assertFalse(rule.test("abcdefgh.pdf"));
+
+        TextRule ext = Validator.extension("pdf", ".DOCX");
+        assertTrue(ext.test("report.PDF"));
+        assertTrue(ext.test("a.b.docx"));
+        assertFalse(ext.test(".pdf"));
+        assertFalse(ext.test("report.pdf.txt"));
+
+        assertThrows(IllegalArgumentException.class, () -> Validator.extension("tar.gz"));
+        assertThrows(IllegalArgumentException.class, () -> Validator.extension("."));
+        assertThrows(IllegalArgumentException.class, () -> Validator.extension(""));
+    }
+
+    @Test
+    void testExtensionTurkishLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            TextRule ext = Validator.extension("ZIP");
+            assertTrue(ext.test("archive.zip"));
+            assertTrue(ext.test("ARCHIVE.ZIP"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void testBatch() {
+        BitSet failures = Validator.intRange(1, 10).validate(new int[] {1, 0, 10, 11});
+        assertEquals(BitSet.valueOf(new long[] {0b1010}), failures);
+
+        BitSet reused = new BitSet();
+        ColumnValidator columns = Validator.columns(3, reused)
+                .check(new long[] {1, 2, 3}, Validator.longRange(1, 2))
+                .check(new String[] {"a.pdf", "b.exe", "c.pdf"}, Validator.extension("pdf"));
+        assertSame(reused, columns.failures());
+        assertEquals(BitSet.valueOf(new long[] {0b110}), reused);
+        assertThrows(IllegalArgumentException.class, () -> columns.check(new int[2], Validator.intRange(0, 1)));
+    }
 }
\ No newline at end of file